@@ -0,0 +1,62 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import pages.JobsListingPage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading job card titles: one bulk script (JobsListingPage.getJobCards) against one round trip
+ * per card (lazy JobCard.getTitle) and plain per-element WebDriver calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dbrowser.profile=ci")
+public class ExtractionBenchmark {
+
+    private static final By CARDS = By.cssSelector("div[class*='position'], div[class*='job'], div[class*='list-item'], div[class*='role']");
+    private static final By TITLE = By.cssSelector("*[class*='title'], h2, h3, h4");
+
+    @Benchmark
+    public void bulkScript(ListingPageState state, Blackhole blackhole) {
+        for (JobsListingPage.JobCard card : state.page.getJobCards(state.waits)) {
+            blackhole.consume(card.getTitle());
+        }
+    }
+
+    @Benchmark
+    public void scriptPerCard(ListingPageState state, Blackhole blackhole) {
+        for (WebElement element : state.driver.findElements(CARDS)) {
+            if (element.isDisplayed()) {
+                blackhole.consume(new JobsListingPage.JobCard(element).getTitle());
+            }
+        }
+    }
+
+    @Benchmark
+    public void webDriverPerCard(ListingPageState state, Blackhole blackhole) {
+        for (WebElement element : state.driver.findElements(CARDS)) {
+            if (element.isDisplayed()) {
+                List<WebElement> titles = element.findElements(TITLE);
+                blackhole.consume(titles.isEmpty() ? element.getText() : titles.get(0).getText());
+            }
+        }
+    }
+
+    @Benchmark
+    public String jobCardGetTitle(ListingPageState state) {
+        return new JobsListingPage.JobCard(state.driver.findElement(CARDS)).getTitle();
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import core.DriverFactory;
+import core.FixtureServer;
+import core.Waits;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+import pages.JobsListingPage;
+
+import java.time.Duration;
+
+/**
+ * One browser per trial on the fixture copy of the open positions page, with the job list rendered.
+ * No latency is injected so the numbers reflect the framework and the browser only.
+ */
+@State(Scope.Benchmark)
+public class ListingPageState {
+
+    static final String LISTING_PATH = "/careers/open-positions/?department=qualityassurance";
+
+    FixtureServer server;
+    WebDriver driver;
+    JobsListingPage page;
+    Waits waits;
+
+    @Setup(Level.Trial)
+    public void start() {
+        server = new FixtureServer(0, Duration.ZERO, Duration.ZERO);
+        server.start();
+        System.setProperty("base.url", server.baseUrl());
+        driver = DriverFactory.createDriver();
+        driver.get(server.baseUrl() + LISTING_PATH);
+        page = new JobsListingPage(driver);
+        page.waitForListRefresh(new Waits(driver, Duration.ofSeconds(30)));
+    }
+
+    // Fresh Waits per iteration so recorded wait timings do not pile up across the run
+    @Setup(Level.Iteration)
+    public void newWaits() {
+        waits = new Waits(driver, Duration.ofSeconds(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (driver != null) {
+            DriverFactory.quitDriver(driver);
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
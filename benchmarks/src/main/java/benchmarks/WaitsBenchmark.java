@@ -0,0 +1,79 @@
+package benchmarks;
+
+import core.LocatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Already satisfied waits, i.e. the cost of one poll: the locator lookup plus the condition check.
+ * Compares the union XPath of JobsListingPage, the equivalent CSS selector list and the learned locator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dbrowser.profile=ci")
+public class WaitsBenchmark {
+
+    private static final String CONTAINER_XPATH = "//div[contains(@class,'positions') or contains(@class,'jobs-list') or contains(@class,'position-list') or contains(@class,'careers') or contains(@class,'jobs')]";
+    private static final String CONTAINER_CSS = "div[class*='positions'], div[class*='jobs-list'], div[class*='position-list'], div[class*='careers'], div[class*='jobs']";
+    private static final String CARDS_XPATH = "//div[contains(concat(' ', normalize-space(@class), ' '), ' position-list-item ')]"
+        + " | //div[@id='jobs-list']/div[.//a[contains(.,'View Role')] or .//button[contains(.,'View Role')]]";
+    private static final String CARDS_CSS = "div.position-list-item";
+
+    @Param({"xpath", "css", "learned"})
+    public String locators;
+
+    private By container;
+    private By cards;
+
+    @Setup
+    public void locators() {
+        switch (locators) {
+            case "xpath":
+                container = By.xpath(CONTAINER_XPATH);
+                cards = By.xpath(CARDS_XPATH);
+                break;
+            case "css":
+                container = By.cssSelector(CONTAINER_CSS);
+                cards = By.cssSelector(CARDS_CSS);
+                break;
+            default:
+                container = learned("Benchmark.jobListContainer", CONTAINER_XPATH, CONTAINER_CSS);
+                cards = learned("Benchmark.jobCards", CARDS_XPATH, CARDS_CSS);
+        }
+    }
+
+    @Benchmark
+    public WebElement visible(ListingPageState state) {
+        return state.waits.visible(container);
+    }
+
+    @Benchmark
+    public boolean waitForElementCountMoreThan(ListingPageState state) {
+        return state.waits.waitForElementCountMoreThan(cards, 0);
+    }
+
+    private static By learned(String name, String xpath, String cssList) {
+        String[] selectors = cssList.split(", ");
+        By[] alternatives = new By[selectors.length];
+        for (int i = 0; i < selectors.length; i++) {
+            alternatives[i] = By.cssSelector(selectors[i]);
+        }
+        return LocatorRegistry.locator(name, By.xpath(xpath), alternatives);
+    }
+}
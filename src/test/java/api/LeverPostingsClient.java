@@ -0,0 +1,64 @@
+package api;
+
+import core.Config;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fetches the job postings the open positions page renders, straight from the Lever postings API.
+ * One HTTP request returns every posting, so data checks need no browser at all.
+ * The endpoint is -Dapi.postings-url (the fixture server's stub when -Dfixture.enabled=true).
+ */
+public class LeverPostingsClient {
+
+    public static final String POSTINGS_URL = "https://api.lever.co/v0/postings/insiderone?mode=json";
+
+    private static final Duration TIMEOUT = Config.millis("api.timeout-ms", 15_000);
+
+    private final URI uri;
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(TIMEOUT)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+
+    public LeverPostingsClient(String postingsUrl) {
+        this.uri = URI.create(postingsUrl);
+    }
+
+    public static LeverPostingsClient fromConfig() {
+        return new LeverPostingsClient(Config.value("api.postings-url", POSTINGS_URL));
+    }
+
+    public List<Posting> fetchAll() {
+        HttpResponse<String> response;
+        try {
+            response = client.send(
+                HttpRequest.newBuilder(uri).timeout(TIMEOUT).header("Accept", "application/json").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not fetch postings from " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching postings from " + uri, e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Postings request to " + uri + " returned HTTP " + response.statusCode());
+        }
+        List<Map<String, Object>> json = new Json().toType(response.body(), Json.LIST_OF_MAPS_TYPE);
+        List<Posting> postings = new ArrayList<>(json.size());
+        for (Map<String, Object> posting : json) {
+            postings.add(Posting.from(posting));
+        }
+        return postings;
+    }
+}
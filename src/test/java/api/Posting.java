@@ -0,0 +1,29 @@
+package api;
+
+import java.util.Map;
+
+/**
+ * One Lever posting as returned by /v0/postings/&lt;company&gt;?mode=json
+ */
+public record Posting(String id, String title, String department, String location, String commitment, String hostedUrl) {
+
+    @SuppressWarnings("unchecked")
+    static Posting from(Map<String, Object> json) {
+        Map<String, Object> categories = (Map<String, Object>) json.getOrDefault("categories", Map.of());
+        return new Posting(
+            String.valueOf(json.get("id")),
+            String.valueOf(json.getOrDefault("text", "")),
+            String.valueOf(categories.getOrDefault("department", "")),
+            String.valueOf(categories.getOrDefault("location", "")),
+            String.valueOf(categories.getOrDefault("commitment", "")),
+            (String) json.get("hostedUrl"));
+    }
+
+    /**
+     * Same rule as the listing page filters: exact location and department, "All" matches everything
+     */
+    public boolean matches(String locationFilter, String departmentFilter) {
+        return ("All".equals(locationFilter) || location.equals(locationFilter))
+            && ("All".equals(departmentFilter) || department.equals(departmentFilter));
+    }
+}
@@ -0,0 +1,104 @@
+package core;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Drop-in replacement for WebDriverWait that polls quickly at first and backs off exponentially
+ * up to a maximum interval, so short waits resolve in tens of milliseconds instead of a full
+ * 500 ms poll cycle. Every evaluation outcome is reported to a listener with its real duration.
+ */
+public class AdaptiveWait implements Wait<WebDriver> {
+
+    /**
+     * Outcome of a single until() call
+     */
+    public record WaitTiming(String condition, Duration elapsed, int polls, boolean satisfied) {
+    }
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final Duration initialPoll;
+    private final Duration maxPoll;
+    private final Consumer<WaitTiming> listener;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout, Duration initialPoll, Duration maxPoll,
+                        Consumer<WaitTiming> listener) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        this.listener = listener;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Same polling policy and listener with a different timeout
+     */
+    public AdaptiveWait withTimeout(Duration newTimeout) {
+        return new AdaptiveWait(driver, newTimeout, initialPoll, maxPoll, listener);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        return until(String.valueOf(isTrue), isTrue);
+    }
+
+    /**
+     * Wait with an explicit label for timing records (lambdas have no useful toString)
+     */
+    public <V> V until(String label, Function<? super WebDriver, V> isTrue) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = initialPoll.toNanos();
+        int polls = 0;
+        RuntimeException lastException = null;
+
+        while (true) {
+            polls++;
+            try {
+                V value = isTrue.apply(driver);
+                if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+                    report(label, start, polls, true);
+                    return value;
+                }
+                lastException = null;
+            } catch (NotFoundException e) {
+                // Same as WebDriverWait: element not there yet, keep polling
+                lastException = e;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                report(label, start, polls, false);
+                throw new TimeoutException(String.format(
+                    "Expected condition failed: %s (tried for %d ms with %d polls)",
+                    label, timeout.toMillis(), polls), lastException);
+            }
+
+            try {
+                Thread.sleep(Duration.ofNanos(Math.min(interval, remaining)).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for: " + label, e);
+            }
+            interval = Math.min(interval * 2, maxPoll.toNanos());
+        }
+    }
+
+    private void report(String label, long start, int polls, boolean satisfied) {
+        if (listener != null) {
+            listener.accept(new WaitTiming(label, Duration.ofNanos(System.nanoTime() - start), polls, satisfied));
+        }
+    }
+}
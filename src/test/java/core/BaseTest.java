@@ -2,20 +2,49 @@ package core;
 
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Listeners;
 
+@Listeners({PerfReportListener.class, FlakeQuarantine.class})
 public abstract class BaseTest {
 
-    protected WebDriver driver;
+    /**
+     * Driver leased to the calling test thread (safe under parallel execution)
+     */
+    protected WebDriver getDriver() {
+        return DriverFactory.getDriver();
+    }
+
+    @BeforeSuite(alwaysRun = true)
+    public void startFixtures() {
+        // -Dfixture.enabled=true serves recorded pages locally instead of the live site
+        if (Config.boolValue("fixture.enabled", false)) {
+            String baseUrl = FixtureServer.startShared().baseUrl();
+            System.setProperty("base.url", baseUrl);
+            System.setProperty("api.postings-url", baseUrl + "/v0/postings/insiderone?mode=json");
+        }
+        // Browser launches overlap with the first tests when -Ddriver.prewarm is set
+        DriverFactory.prewarm();
+    }
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        driver = DriverFactory.createDriver();
+        // Browsers are leased lazily on the first getDriver() call, so API-only tests never start one.
         // No implicit waits; explicit waits are used via Waits helper
     }
 
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        DriverFactory.quitDriver(driver); // Close browser after test
+        // Browser is reset and returned to the pool for the next test
+        DriverFactory.releaseDriver();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownDrivers() {
+        DriverFactory.shutdown();
+        FixtureServer.stopShared();
+        LocatorRegistry.writeReport();
     }
-}
\ No newline at end of file
+}
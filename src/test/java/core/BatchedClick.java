@@ -0,0 +1,135 @@
+package core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Locate, scroll, hit-test and click in a single async script call. The script retries in the page until
+ * the element is visible, enabled and topmost at its click point (or the timeout is reached), scrolls
+ * instantly instead of animating, and then dispatches the pointer/mouse event sequence at that point.
+ * An element that stays covered for the intercept grace period is reported with what covers it.
+ */
+final class BatchedClick {
+
+    enum Mode {
+        // Hit-test, then click
+        CLICK,
+        // Click the element itself even when covered or disabled (what a JS click does)
+        FORCE,
+        // Hit-test only, for callers that click through another API
+        PREPARE
+    }
+
+    private static final String CLICK_SCRIPT = JsLocators.FIND_ALL_FUNCTION +
+        "var element = arguments[0], using = arguments[1], value = arguments[2], mode = arguments[3];" +
+        "var timeoutMs = arguments[4], graceMs = arguments[5], done = arguments[arguments.length - 1];" +
+        "var start = Date.now(), coveredSince = null;" +
+        "function describe(el) {" +
+        "  var d = el.tagName.toLowerCase();" +
+        "  if (el.id) { d += '#' + el.id; }" +
+        "  if (typeof el.className === 'string' && el.className.trim()) {" +
+        "    d += '.' + el.className.trim().split(/\\s+/).slice(0, 3).join('.');" +
+        "  }" +
+        "  return d;" +
+        "}" +
+        "function fire(target, type, x, y, buttons) {" +
+        "  var init = {bubbles: true, cancelable: true, composed: true, view: window, clientX: x, clientY: y," +
+        "    button: 0, buttons: buttons, detail: 1};" +
+        "  if (type.indexOf('pointer') === 0) {" +
+        "    if (!window.PointerEvent) { return; }" +
+        "    init.pointerId = 1; init.pointerType = 'mouse'; init.isPrimary = true;" +
+        "    target.dispatchEvent(new PointerEvent(type, init));" +
+        "  } else {" +
+        "    target.dispatchEvent(new MouseEvent(type, init));" +
+        "  }" +
+        "}" +
+        "function attempt() {" +
+        "  var el = element;" +
+        "  if (el) {" +
+        "    if (!el.isConnected) { return {status: 'STALE'}; }" +
+        "  } else {" +
+        "    var found = findAll(using, value);" +
+        "    el = found.filter(isVisible)[0] || found[0];" +
+        "    if (!el) { return {status: 'NOT_FOUND'}; }" +
+        "  }" +
+        "  if (!isVisible(el) || (mode !== 'FORCE' && el.disabled === true)) {" +
+        "    return {status: 'NOT_INTERACTABLE', element: el};" +
+        "  }" +
+        "  el.scrollIntoView({behavior: 'instant', block: 'center', inline: 'nearest'});" +
+        "  var rect = el.getClientRects()[0] || el.getBoundingClientRect();" +
+        "  var x = Math.min(Math.max(rect.left + rect.width / 2, 0), window.innerWidth - 1);" +
+        "  var y = Math.min(Math.max(rect.top + rect.height / 2, 0), window.innerHeight - 1);" +
+        "  var root = el.getRootNode && el.getRootNode().elementFromPoint ? el.getRootNode() : document;" +
+        "  var hit = root.elementFromPoint(x, y);" +
+        "  var covered = !hit || (hit !== el && !el.contains(hit));" +
+        "  if (covered && mode !== 'FORCE') {" +
+        "    return {status: 'INTERCEPTED', interceptedBy: hit ? describe(hit) : null, element: el};" +
+        "  }" +
+        "  if (mode === 'PREPARE') { return {status: 'READY', element: el}; }" +
+        "  var target = covered ? el : hit;" +
+        "  fire(target, 'pointerdown', x, y, 1);" +
+        "  fire(target, 'mousedown', x, y, 1);" +
+        "  if (el.focus) { el.focus({preventScroll: true}); }" +
+        "  fire(target, 'pointerup', x, y, 0);" +
+        "  fire(target, 'mouseup', x, y, 0);" +
+        "  fire(target, 'click', x, y, 0);" +
+        "  return {status: 'CLICKED'};" +
+        "}" +
+        "(function poll() {" +
+        "  var result;" +
+        "  try { result = attempt(); } catch (e) { done({status: 'ERROR', error: String(e)}); return; }" +
+        "  var now = Date.now();" +
+        "  if (result.status === 'CLICKED' || result.status === 'READY' || result.status === 'STALE') { done(result); return; }" +
+        "  if (result.status === 'INTERCEPTED') {" +
+        "    coveredSince = coveredSince || now;" +
+        "    if (now - coveredSince >= graceMs) { done(result); return; }" +
+        "  } else {" +
+        "    coveredSince = null;" +
+        "  }" +
+        "  if (now - start >= timeoutMs) { done(result); return; }" +
+        "  setTimeout(poll, 25);" +
+        "})();";
+
+    // Head room so the page-side timer fires before WebDriver's script timeout
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+    private BatchedClick() {
+    }
+
+    /**
+     * Run the batched click for an element (checked for staleness, never re-located) or a locator.
+     * Returns ERROR when the script could not run, e.g. the page navigated underneath it.
+     */
+    @SuppressWarnings("unchecked")
+    static Waits.ClickResult run(WebDriver driver, WebElement element, By locator, Mode mode,
+                                 Duration timeout, Duration interceptGrace) {
+        long start = System.nanoTime();
+        Map<String, Object> result;
+        try {
+            DomObserver.ensureScriptTimeout(driver, timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+            result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(CLICK_SCRIPT,
+                element,
+                locator == null ? null : JsLocators.using(locator),
+                locator == null ? null : JsLocators.value(locator),
+                mode.name(), timeout.toMillis(), interceptGrace.toMillis());
+        } catch (StaleElementReferenceException e) {
+            result = Map.of("status", "STALE");
+        } catch (WebDriverException e) {
+            result = Map.of("status", "ERROR", "error", String.valueOf(e.getMessage()));
+        }
+        Object found = result.get("element");
+        return new Waits.ClickResult(
+            Waits.ClickResult.Status.valueOf(String.valueOf(result.get("status"))),
+            (String) result.get("interceptedBy"),
+            found instanceof WebElement ? (WebElement) found : element,
+            false,
+            Duration.ofNanos(System.nanoTime() - start));
+    }
+}
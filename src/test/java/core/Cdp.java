@@ -0,0 +1,61 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Untyped Chrome DevTools Protocol access. Commands and events are addressed by their protocol
+ * names (e.g. "Fetch.enable") so the framework is not tied to one selenium-devtools-vNNN module.
+ */
+public final class Cdp {
+
+    // Window each driver's DevTools session is attached to; events only describe that window
+    private static final Map<WebDriver, String> SESSION_WINDOWS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private Cdp() {
+    }
+
+    /**
+     * DevTools connection of the driver, or empty when the browser does not speak CDP.
+     * The first connection of a driver attaches to the window that is current at that moment.
+     */
+    public static Optional<DevTools> connect(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        synchronized (SESSION_WINDOWS) {
+            if (!SESSION_WINDOWS.containsKey(driver)) {
+                String handle = driver.getWindowHandle();
+                devTools.createSessionIfThereIsNotOne(handle);
+                SESSION_WINDOWS.put(driver, handle);
+            }
+        }
+        return Optional.of(devTools);
+    }
+
+    /**
+     * Window handle the driver's DevTools session is attached to, or null before the first connect
+     */
+    public static String sessionWindow(WebDriver driver) {
+        return SESSION_WINDOWS.get(driver);
+    }
+
+    public static Map<String, Object> send(DevTools devTools, String method, Map<String, Object> params) {
+        return devTools.send(new Command<>(method, params, input -> input.read(Json.MAP_TYPE)));
+    }
+
+    public static void on(DevTools devTools, String event, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(event, input -> input.read(Json.MAP_TYPE)), handler);
+    }
+}
@@ -0,0 +1,27 @@
+package core;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Re-runs a whole test only for failures a step retry cannot fix (lost session, network errors),
+ * at most -Dretry.max times (default 1). UI races are retried per step by Steps.retryable and
+ * assertion failures are never retried.
+ */
+public class ClassifiedRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final int MAX_RETRIES = Config.intValue("retry.max", 1);
+
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        FailureClassifier.Cause cause = FailureClassifier.classify(result.getThrowable());
+        if (retries >= MAX_RETRIES || !cause.isTestRetryable()) {
+            return false;
+        }
+        retries++;
+        FlakeQuarantine.testRetried(result, FailureClassifier.describe(result.getThrowable()));
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Counts WebDriver API calls (driver, element, navigation, options...) for the current test's PerfRecorder.
+ * Each call maps to one command sent to chromedriver, except for local accessors which are skipped.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    // Return helper objects without talking to the browser; the calls made on those helpers are counted
+    private static final Set<String> LOCAL_ACCESSORS = Set.of(
+        "WebDriver.manage", "WebDriver.switchTo", "WebDriver.navigate",
+        "Options.timeouts", "Options.window", "HasDevTools.getDevTools");
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (declaringClass == Object.class || declaringClass == WrapsDriver.class || declaringClass == WrapsElement.class) {
+            return;
+        }
+        if (target instanceof WebDriver && args != null && args.length == 1 && args[0] instanceof LearnedLocator) {
+            // Not a command itself: the lookups the learned locator makes through this decorator are counted
+            return;
+        }
+        String name = declaringClass.getSimpleName() + "." + method.getName();
+        if (LOCAL_ACCESSORS.contains(name)) {
+            return;
+        }
+        PerfRecorder.countCommand(name);
+    }
+}
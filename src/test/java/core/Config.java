@@ -0,0 +1,67 @@
+package core;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Central lookup for framework settings.
+ * Values are resolved from system properties first (e.g. -Ddriver.pool.size=4),
+ * then from environment variables (DRIVER_POOL_SIZE), then from the given default.
+ */
+public final class Config {
+
+    private Config() {
+    }
+
+    public static String value(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(key.toUpperCase().replace('.', '_').replace('-', '_'));
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int intValue(String key, int defaultValue) {
+        String value = value(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting '" + key + "' must be an integer but was: " + value, e);
+        }
+    }
+
+    public static boolean boolValue(String key, boolean defaultValue) {
+        String value = value(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Semicolon separated list, since values such as "Istanbul, Turkiye" contain commas
+     */
+    public static List<String> listValue(String key, String defaultValue) {
+        return Arrays.stream(value(key, defaultValue).split(";"))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Durations are given in milliseconds
+     */
+    public static Duration millis(String key, long defaultMillis) {
+        String value = value(key, null);
+        if (value == null) {
+            return Duration.ofMillis(defaultMillis);
+        }
+        try {
+            return Duration.ofMillis(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting '" + key + "' must be a number of milliseconds but was: " + value, e);
+        }
+    }
+}
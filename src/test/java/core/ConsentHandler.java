@@ -0,0 +1,187 @@
+package core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cookie consent handling shared by all page objects (CookieLawInfo / wt-cli banner).
+ * <ul>
+ *   <li>Before navigation the consent cookies are pre-seeded through CDP, so the banner never renders.</li>
+ *   <li>After navigation a single async script detects the banner, clicks "Accept All" and reports back,
+ *       waiting at most -Dconsent.grace-ms for a late banner instead of fixed sleeps and long timeouts.</li>
+ *   <li>Origins where consent is given are remembered per driver for the driver's lifetime; the pool
+ *       re-seeds them after clearing cookies between tests.</li>
+ * </ul>
+ */
+public final class ConsentHandler {
+
+    private static final boolean PRESEED = Config.boolValue("consent.preseed", true);
+    private static final Duration GRACE = Config.millis("consent.grace-ms", 1500);
+    // How long the script waits for the banner to go away after the click
+    private static final long HIDE_TIMEOUT_MS = 2000;
+
+    // Cookies CookieLawInfo writes when "Accept All" is clicked
+    private static final Map<String, String> CONSENT_COOKIES = new LinkedHashMap<>();
+    static {
+        CONSENT_COOKIES.put("viewed_cookie_policy", "yes");
+        CONSENT_COOKIES.put("cookielawinfo-checkbox-necessary", "yes");
+        CONSENT_COOKIES.put("cookielawinfo-checkbox-functional", "yes");
+        CONSENT_COOKIES.put("cookielawinfo-checkbox-performance", "yes");
+        CONSENT_COOKIES.put("cookielawinfo-checkbox-analytics", "yes");
+        CONSENT_COOKIES.put("cookielawinfo-checkbox-others", "yes");
+    }
+
+    private static final String ACCEPT_SCRIPT = JsLocators.FIND_ALL_FUNCTION +
+        "var graceMs = arguments[0], hideTimeoutMs = arguments[1], done = arguments[arguments.length - 1];" +
+        "function hasConsent() { return /(^|;\\s*)viewed_cookie_policy=yes/.test(document.cookie); }" +
+        "function findBanner() {" +
+        "  var candidates = document.querySelectorAll(\"#cookie-law-info-bar, .cli-bar-container, [class*='cookie-banner'], " +
+        "[class*='cookie-consent'], [id*='cookie-banner'], div[role='dialog']\");" +
+        "  for (var i = 0; i < candidates.length; i++) {" +
+        "    var el = candidates[i];" +
+        "    if (isVisible(el) && (el.getAttribute('role') !== 'dialog' || /cookie/i.test(el.innerText || ''))) { return el; }" +
+        "  }" +
+        "  return null;" +
+        "}" +
+        "function findButton(banner) {" +
+        "  var byId = document.getElementById('wt-cli-accept-all-btn');" +
+        "  if (byId && isVisible(byId)) { return byId; }" +
+        "  var buttons = banner.querySelectorAll('a, button');" +
+        "  var patterns = [/^\\s*accept all\\s*$/i, /accept all/i, /accept/i];" +
+        "  for (var p = 0; p < patterns.length; p++) {" +
+        "    for (var i = 0; i < buttons.length; i++) {" +
+        "      if (isVisible(buttons[i]) && patterns[p].test(buttons[i].innerText || '')) { return buttons[i]; }" +
+        "    }" +
+        "  }" +
+        "  return null;" +
+        "}" +
+        "var finished = false, observer = null, timer = null;" +
+        "function finish(result) {" +
+        "  if (finished) { return; }" +
+        "  finished = true;" +
+        "  if (observer) { observer.disconnect(); }" +
+        "  clearTimeout(timer);" +
+        "  done(result);" +
+        "}" +
+        "function tryAccept() {" +
+        "  var banner = findBanner();" +
+        "  var button = banner && findButton(banner);" +
+        "  if (!button) { return false; }" +
+        "  button.click();" +
+        "  var deadline = Date.now() + hideTimeoutMs;" +
+        "  (function waitHidden() {" +
+        "    if (!isVisible(banner) || Date.now() > deadline) { finish('accepted'); } else { setTimeout(waitHidden, 50); }" +
+        "  })();" +
+        "  return true;" +
+        "}" +
+        "if (tryAccept()) { return; }" +
+        "if (hasConsent()) { finish('consented'); return; }" +
+        "observer = new MutationObserver(function() { if (!finished && tryAccept()) { observer.disconnect(); } });" +
+        "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});" +
+        "timer = setTimeout(function() { finish(hasConsent() ? 'consented' : 'absent'); }, graceMs);";
+
+    // Origins with consent given, per live driver
+    private static final Map<WebDriver, Set<String>> CONSENTED = new ConcurrentHashMap<>();
+
+    private ConsentHandler() {
+    }
+
+    /**
+     * Seed the consent cookies for the URL's origin before navigating to it (no-op without CDP)
+     */
+    public static void prepare(WebDriver driver, String url) {
+        if (!PRESEED) {
+            return;
+        }
+        String origin = origin(url);
+        if (origin == null || consentedOrigins(driver).contains(origin)) {
+            return;
+        }
+        if (seed(driver, origin)) {
+            consentedOrigins(driver).add(origin);
+        }
+    }
+
+    /**
+     * Accept the banner on the current page if it shows up. Returns how consent was resolved:
+     * "remembered", "consented" (cookie already set), "accepted" (banner clicked) or "absent".
+     */
+    public static String acceptIfPresent(WebDriver driver) {
+        String origin = origin(driver.getCurrentUrl());
+        if (origin != null && consentedOrigins(driver).contains(origin)) {
+            return "remembered";
+        }
+        DomObserver.ensureScriptTimeout(driver, GRACE.plusMillis(HIDE_TIMEOUT_MS).plusSeconds(5));
+        String result;
+        try {
+            result = String.valueOf(((JavascriptExecutor) driver).executeAsyncScript(ACCEPT_SCRIPT,
+                GRACE.toMillis(), HIDE_TIMEOUT_MS));
+        } catch (WebDriverException e) {
+            // Page navigated while checking; banner handling is best effort
+            return "absent";
+        }
+        if (origin != null && ("accepted".equals(result) || "consented".equals(result))) {
+            consentedOrigins(driver).add(origin);
+        }
+        return result;
+    }
+
+    /**
+     * Re-apply consent for remembered origins after the session's cookies were cleared
+     */
+    public static void afterCookiesCleared(WebDriver driver) {
+        Set<String> origins = CONSENTED.get(driver);
+        if (origins == null) {
+            return;
+        }
+        origins.removeIf(origin -> !seed(driver, origin));
+    }
+
+    /**
+     * Drop everything remembered for a driver that is being quit
+     */
+    public static void forget(WebDriver driver) {
+        CONSENTED.remove(driver);
+    }
+
+    private static Set<String> consentedOrigins(WebDriver driver) {
+        return CONSENTED.computeIfAbsent(driver, key -> ConcurrentHashMap.newKeySet());
+    }
+
+    private static boolean seed(WebDriver driver, String origin) {
+        try {
+            return Cdp.connect(driver).map(devTools -> {
+                for (Map.Entry<String, String> cookie : CONSENT_COOKIES.entrySet()) {
+                    Cdp.send(devTools, "Network.setCookie", Map.of(
+                        "name", cookie.getKey(),
+                        "value", cookie.getValue(),
+                        "url", origin + "/",
+                        "path", "/"));
+                }
+                return true;
+            }).orElse(false);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null || !uri.getScheme().startsWith("http")) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
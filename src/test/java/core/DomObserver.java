@@ -0,0 +1,144 @@
+package core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Event-driven waits: a MutationObserver is installed in the page by a single executeAsyncScript
+ * call and the script resolves as soon as the DOM condition holds, instead of polling the
+ * condition through repeated findElements/getText round trips.
+ */
+public class DomObserver {
+
+    private static final String AWAIT_SCRIPT = JsLocators.FIND_ALL_FUNCTION +
+        "var kind = arguments[0], using = arguments[1], value = arguments[2], expected = arguments[3];" +
+        "var timeoutMs = arguments[4], done = arguments[arguments.length - 1];" +
+        "var checks = {" +
+        "  countMoreThan: function() { return findAll(using, value).length > expected; }," +
+        "  visible: function() { return findAll(using, value).some(isVisible); }," +
+        "  visibleWithText: function() {" +
+        "    return findAll(using, value).some(function(el) {" +
+        "      return isVisible(el) && (el.innerText || '').trim().length > expected;" +
+        "    });" +
+        "  }," +
+        "  optionText: function() {" +
+        "    return findAll(using, value).some(function(select) {" +
+        "      return Array.prototype.some.call(select.options || [], function(option) {" +
+        "        return option.text.trim() === expected;" +
+        "      });" +
+        "    });" +
+        "  }" +
+        "};" +
+        "function evaluate() { try { return checks[kind](); } catch (e) { return false; } }" +
+        "if (evaluate()) { done(true); return; }" +
+        "var finished = false, timer = null;" +
+        "var observer = new MutationObserver(function() { if (!finished && evaluate()) { finish(true); } });" +
+        "function finish(result) { finished = true; observer.disconnect(); clearTimeout(timer); done(result); }" +
+        "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "timer = setTimeout(function() { finish(evaluate()); }, timeoutMs);";
+
+    // Resolves true once the document is loaded and neither the DOM, resource loads nor the scroll
+    // position changed for the quiet period; false when the timeout is reached first
+    private static final String QUIET_SCRIPT =
+        "var quietMs = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];" +
+        "var start = Date.now(), lastChange = start, lastX = window.scrollX, lastY = window.scrollY;" +
+        "var observer = new MutationObserver(function() { lastChange = Date.now(); });" +
+        "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "var resources = null;" +
+        "try {" +
+        "  resources = new PerformanceObserver(function() { lastChange = Date.now(); });" +
+        "  resources.observe({type: 'resource'});" +
+        "} catch (e) { resources = null; }" +
+        "function finish(result) { observer.disconnect(); if (resources) { resources.disconnect(); } done(result); }" +
+        "(function check() {" +
+        "  var now = Date.now();" +
+        "  if (window.scrollX !== lastX || window.scrollY !== lastY || document.readyState !== 'complete') {" +
+        "    lastX = window.scrollX; lastY = window.scrollY; lastChange = now;" +
+        "  }" +
+        "  if (now - lastChange >= quietMs) { finish(true); return; }" +
+        "  if (now - start >= timeoutMs) { finish(false); return; }" +
+        "  setTimeout(check, 50);" +
+        "})();";
+
+    // Head room so the page-side timer fires before WebDriver's script timeout
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+    // Script timeout last sent per session, shared by every async-script user of that session
+    private static final Map<WebDriver, Duration> SCRIPT_TIMEOUTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+
+    public DomObserver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * More than count elements match the locator
+     */
+    public void awaitCountMoreThan(By locator, int count, Duration timeout) {
+        await("countMoreThan", locator, count, timeout);
+    }
+
+    /**
+     * At least one matching element is visible
+     */
+    public void awaitVisible(By locator, Duration timeout) {
+        await("visible", locator, null, timeout);
+    }
+
+    /**
+     * At least one matching element is visible and its rendered text is longer than minLength
+     */
+    public void awaitVisibleWithText(By locator, int minLength, Duration timeout) {
+        await("visibleWithText", locator, minLength, timeout);
+    }
+
+    /**
+     * A matching select element has an option with exactly this (trimmed) text
+     */
+    public void awaitOptionText(By selectLocator, String optionText, Duration timeout) {
+        await("optionText", selectLocator, optionText, timeout);
+    }
+
+    /**
+     * Document loaded and no DOM mutation, resource load or scroll movement for the quiet period
+     */
+    public void awaitQuiet(Duration quietPeriod, Duration timeout) {
+        ensureScriptTimeout(driver, timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(QUIET_SCRIPT,
+            quietPeriod.toMillis(), timeout.toMillis());
+        if (!Boolean.TRUE.equals(result)) {
+            throw new TimeoutException(String.format("Page did not stay quiet for %d ms within %d ms",
+                quietPeriod.toMillis(), timeout.toMillis()));
+        }
+    }
+
+    private void await(String kind, By locator, Object expected, Duration timeout) {
+        ensureScriptTimeout(driver, timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_SCRIPT,
+            kind, JsLocators.using(locator), JsLocators.value(locator), expected, timeout.toMillis());
+        if (!Boolean.TRUE.equals(result)) {
+            throw new TimeoutException(String.format("DOM condition %s(%s) not met within %d ms",
+                kind, locator, timeout.toMillis()));
+        }
+    }
+
+    /**
+     * Make sure async scripts may run for at least the given time. The script timeout is a session
+     * setting, so it is only sent when it has to grow.
+     */
+    public static void ensureScriptTimeout(WebDriver driver, Duration scriptTimeout) {
+        Duration applied = SCRIPT_TIMEOUTS.get(driver);
+        if (applied == null || applied.compareTo(scriptTimeout) < 0) {
+            driver.manage().timeouts().scriptTimeout(scriptTimeout);
+            SCRIPT_TIMEOUTS.put(driver, scriptTimeout);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package core;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the chromedriver binary once per JVM.
+ * Order: a pre-provisioned binary (-Dchromedriver.path or webdriver.chrome.driver), then in offline mode
+ * the newest binary already in the WebDriverManager cache, otherwise a WebDriverManager resolution whose
+ * result is cached on disk (-Dwdm.cache-path) and reused for -Dwdm.ttl-seconds.
+ */
+public final class DriverBinaries {
+
+    private static final String CHROME_DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final boolean OFFLINE = Config.boolValue("wdm.offline", false);
+    private static final Path CACHE_PATH = Path.of(Config.value("wdm.cache-path",
+        Path.of(System.getProperty("user.home"), ".cache", "selenium").toString()));
+    private static final int TTL_SECONDS = Config.intValue("wdm.ttl-seconds", 86_400);
+
+    private static volatile String chromeDriverPath;
+
+    private DriverBinaries() {
+    }
+
+    /**
+     * Path of the chromedriver binary, resolving it on first call only
+     */
+    public static String chromeDriver() {
+        String path = chromeDriverPath;
+        if (path == null) {
+            synchronized (DriverBinaries.class) {
+                path = chromeDriverPath;
+                if (path == null) {
+                    path = resolveChromeDriver();
+                    System.setProperty(CHROME_DRIVER_PROPERTY, path);
+                    chromeDriverPath = path;
+                }
+            }
+        }
+        return path;
+    }
+
+    private static String resolveChromeDriver() {
+        String provisioned = Config.value("chromedriver.path", System.getProperty(CHROME_DRIVER_PROPERTY));
+        if (provisioned != null) {
+            Path binary = Path.of(provisioned);
+            if (!Files.isExecutable(binary)) {
+                throw new IllegalStateException("Pre-provisioned chromedriver is missing or not executable: " + binary);
+            }
+            return binary.toAbsolutePath().toString();
+        }
+
+        if (OFFLINE) {
+            return findCachedChromeDriver()
+                .orElseThrow(() -> new IllegalStateException("Offline mode (-Dwdm.offline=true) needs "
+                    + "-Dchromedriver.path or a chromedriver already cached under " + CACHE_PATH))
+                .toString();
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver()
+            .cachePath(CACHE_PATH.toString())
+            .ttl(TTL_SECONDS);
+        manager.setup();
+        return manager.getDownloadedDriverPath();
+    }
+
+    private static Optional<Path> findCachedChromeDriver() {
+        if (!Files.isDirectory(CACHE_PATH)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.walk(CACHE_PATH)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.equals("chromedriver") || name.equals("chromedriver.exe");
+                })
+                .filter(Files::isExecutable)
+                .max(Comparator.comparing(DriverBinaries::lastModified))
+                .map(Path::toAbsolutePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not scan chromedriver cache " + CACHE_PATH, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -1,15 +1,127 @@
 package core;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DriverFactory {
 
+    // -Dbrowser.profile=ci: headless, fixed viewport, no images/fonts/media, eager page loads
+    private static final boolean CI_PROFILE = "ci".equalsIgnoreCase(Config.value("browser.profile", "default"));
+    private static final String WINDOW_SIZE = Config.value("browser.window-size", "1920,1080");
+    // Count WebDriver commands per test for the performance report (-Dperf.count-commands=false to skip)
+    private static final boolean COUNT_COMMANDS = Config.boolValue("perf.count-commands", true);
+    private static final Path CACHE_ROOT = Path.of(Config.value("browser.cache-dir", "target/chrome-cache"));
+    private static final List<String> BLOCKED_RESOURCES = List.of(
+        "*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot",
+        "*.mp4", "*.webm", "*.ogg", "*.mp3", "*.wav", "*.m4a");
+
+    // Disk cache directories are reused by later browsers but never by two browsers at once
+    private static final Queue<Integer> FREE_CACHE_SLOTS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger CACHE_SLOT_COUNT = new AtomicInteger();
+    private static final Map<WebDriver, Integer> CACHE_SLOTS = new ConcurrentHashMap<>();
+
+    // -Ddriver.remote.url=http://grid:4444 runs every browser on a Selenium Grid instead of locally
+    private static final String REMOTE_URL = Config.value("driver.remote.url", "");
+    private static final GridCapacity GRID = REMOTE_URL.isEmpty() ? null : new GridCapacity(REMOTE_URL,
+        Config.millis("grid.poll-ms", 1000), Config.millis("grid.queue-timeout-ms", 600_000));
+
+    // Pool size and lease timeout: -Ddriver.pool.size=4 -Ddriver.pool.acquire-timeout-ms=120000
+    // (-Ddriver.pool.size=auto sizes the pool to the grid's chrome slots, or to the CPU count locally)
+    private static final DriverPool POOL = new DriverPool(
+        poolSize(),
+        Config.millis("driver.pool.acquire-timeout-ms", GRID == null ? 120_000 : 600_000),
+        DriverFactory::createDriver,
+        DriverFactory::quitDriver,
+        ConsentHandler::afterCookiesCleared);
+
+    // -Ddriver.lifecycle=session (default) reuses browsers across methods and classes after a reset,
+    // -Ddriver.lifecycle=method quits the browser after every test method
+    private static final boolean QUIT_AFTER_METHOD = "method".equalsIgnoreCase(Config.value("driver.lifecycle", "session"));
+
+    // -Ddriver.prewarm=K keeps K idle browsers started in the background, already on about:blank with
+    // consent cookies set for -Ddriver.prewarm.consent-origins (default: the base URL)
+    private static final int PREWARM = Config.intValue("driver.prewarm", 0);
+
+    // Command-counting decorator of each undecorated driver, for lookups that only get the driver itself
+    private static final Map<WebDriver, WebDriver> COUNTED = new ConcurrentHashMap<>();
+
+    // Driver leased by the current test thread
+    private static final ThreadLocal<WebDriver> CURRENT = new ThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(POOL::shutdown, "driver-pool-shutdown"));
+    }
+
     public static WebDriver createDriver() {
-        WebDriverManager.chromedriver().setup();
+        WebDriver driver = GRID == null ? createLocalDriver() : createRemoteDriver();
+        NetworkCache.attachIfEnabled(driver);
+        if (!COUNT_COMMANDS) {
+            return driver;
+        }
+        WebDriver decorated = new EventFiringDecorator<WebDriver>(new CommandCounter()).decorate(driver);
+        COUNTED.put(driver, decorated);
+        return decorated;
+    }
+
+    /**
+     * The command-counting decorator of an undecorated driver, so that commands a By issues against the
+     * driver it was handed show up in the performance report; any other context as is
+     */
+    static SearchContext counted(SearchContext context) {
+        WebDriver decorated = context instanceof WebDriver ? COUNTED.get(context) : null;
+        return decorated == null ? context : decorated;
+    }
+
+    private static WebDriver createLocalDriver() {
+        // Resolved once per JVM; see DriverBinaries for offline and pre-provisioned binaries
+        DriverBinaries.chromeDriver();
+        return CI_PROFILE ? createCiDriver() : new ChromeDriver(defaultOptions());
+    }
+
+    // Grid session, augmented so CDP features (consent seeding, network cache, resource blocking) keep working
+    private static WebDriver createRemoteDriver() {
+        ChromeOptions options = CI_PROFILE ? ciOptions() : defaultOptions();
+        GRID.awaitSlot();
+        WebDriver driver;
+        try {
+            driver = new Augmenter().augment(new RemoteWebDriver(new URL(REMOTE_URL), options));
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid driver.remote.url: " + REMOTE_URL, e);
+        } finally {
+            GRID.started();
+        }
+        if (CI_PROFILE) {
+            try {
+                Cdp.connect(driver).ifPresent(devTools -> {
+                    Cdp.send(devTools, "Network.enable", Map.of());
+                    Cdp.send(devTools, "Network.setBlockedURLs", Map.of("urls", BLOCKED_RESOURCES));
+                });
+            } catch (WebDriverException e) {
+                // Blocking is an optimization only; continue with the unblocked session
+            }
+        }
+        return driver;
+    }
+
+    private static ChromeOptions defaultOptions() {
         ChromeOptions options = new ChromeOptions();
         options.addArguments("--incognito");
         options.addArguments("--start-maximized");
@@ -17,12 +129,142 @@ public class DriverFactory {
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-extensions");
         options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
-        return new ChromeDriver(options);
+        return options;
     }
 
     public static void quitDriver(WebDriver driver) {
         if (driver != null) {
-            driver.quit();
+            try {
+                driver.quit();
+            } finally {
+                ConsentHandler.forget(driver);
+                COUNTED.values().removeIf(decorated -> decorated == driver);
+                Integer slot = CACHE_SLOTS.remove(driver);
+                if (slot != null) {
+                    FREE_CACHE_SLOTS.offer(slot);
+                }
+            }
+        }
+    }
+
+    // Resource-trimmed headless browser for build agents
+    private static ChromeDriver createCiDriver() {
+        Integer slot = FREE_CACHE_SLOTS.poll();
+        if (slot == null) {
+            slot = CACHE_SLOT_COUNT.getAndIncrement();
+        }
+
+        ChromeOptions options = ciOptions();
+        // No --incognito in the CI profile: incognito keeps its cache in memory only
+        options.addArguments("--disk-cache-dir=" + CACHE_ROOT.resolve("slot-" + slot).toAbsolutePath());
+
+        ChromeDriver driver;
+        try {
+            driver = new ChromeDriver(options);
+        } catch (RuntimeException e) {
+            FREE_CACHE_SLOTS.offer(slot);
+            throw e;
+        }
+        CACHE_SLOTS.put(driver, slot);
+
+        // Fonts and media have no command line switch; block them at the network layer
+        try {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", BLOCKED_RESOURCES));
+        } catch (WebDriverException e) {
+            // Blocking is an optimization only; continue with the unblocked session
         }
+        return driver;
+    }
+
+    private static ChromeOptions ciOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new");
+        options.addArguments("--window-size=" + WINDOW_SIZE);
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-infobars");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-background-networking");
+        options.addArguments("--disable-component-update");
+        options.addArguments("--disable-default-apps");
+        options.addArguments("--disable-sync");
+        options.addArguments("--no-first-run");
+        options.addArguments("--mute-audio");
+        options.addArguments("--blink-settings=imagesEnabled=false");
+        options.addArguments("--autoplay-policy=user-gesture-required");
+        options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        return options;
+    }
+
+    private static int poolSize() {
+        if (!"auto".equalsIgnoreCase(Config.value("driver.pool.size", "4"))) {
+            return Config.intValue("driver.pool.size", 4);
+        }
+        if (GRID == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        GridCapacity.Slots slots = GRID.slots();
+        if (slots == null || slots.total() == 0) {
+            throw new IllegalStateException("driver.pool.size=auto but " + REMOTE_URL + " reports no chrome slots");
+        }
+        return slots.total();
+    }
+
+    /**
+     * Start keeping -Ddriver.prewarm sessions warm in the background (no-op when 0); call once the base URL is known
+     */
+    public static void prewarm() {
+        POOL.startPrewarm(PREWARM, DriverFactory::warmUp);
+    }
+
+    private static void warmUp(WebDriver driver) {
+        driver.get("about:blank");
+        for (String origin : Config.listValue("driver.prewarm.consent-origins", Config.value("base.url", "https://insiderone.com"))) {
+            ConsentHandler.prepare(driver, origin);
+        }
+    }
+
+    /**
+     * Driver leased to the current thread; leases one from the pool on first call
+     */
+    public static WebDriver getDriver() {
+        WebDriver driver = CURRENT.get();
+        if (driver == null) {
+            driver = POOL.acquire();
+            CURRENT.set(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Return the current thread's driver to the pool (reset for reuse, or quit with -Ddriver.lifecycle=method)
+     */
+    public static void releaseDriver() {
+        WebDriver driver = CURRENT.get();
+        CURRENT.remove();
+        if (QUIT_AFTER_METHOD) {
+            POOL.invalidate(driver);
+        } else {
+            POOL.release(driver);
+        }
+    }
+
+    /**
+     * Quit the current thread's driver instead of reusing it
+     */
+    public static void discardDriver() {
+        WebDriver driver = CURRENT.get();
+        CURRENT.remove();
+        POOL.invalidate(driver);
+    }
+
+    public static int getPoolSize() {
+        return POOL.getMaxSize();
+    }
+
+    public static void shutdown() {
+        POOL.shutdown();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,314 @@
+package core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of browser sessions shared by test threads.
+ * A driver is leased to one thread at a time; on release it is health-checked and reset
+ * (extra windows closed, cookies and storage cleared, primary window on about:blank) before being
+ * handed to the next test, which costs a few commands instead of a browser start.
+ * Unhealthy drivers are quit and replaced lazily.
+ * <p>
+ * With {@link #startPrewarm} a background spawner keeps up to K idle sessions started and warmed up,
+ * refilling whenever one is leased or discarded, so browser launches overlap with running tests instead
+ * of blocking them. Sessions are only started in the background while idle, leased and starting ones
+ * together stay below the pool size.
+ */
+public class DriverPool {
+
+    // Consecutive failed background starts after which prewarming gives up
+    private static final int MAX_SPAWN_FAILURES = 3;
+
+    private final int maxSize;
+    private final Duration acquireTimeout;
+    private final Supplier<WebDriver> factory;
+    private final Consumer<WebDriver> disposer;
+    // Runs after cookies were cleared, e.g. to restore consent cookies
+    private final Consumer<WebDriver> afterReset;
+
+    // Permits represent leases; idle drivers do not hold a permit
+    private final Semaphore leases;
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    // Window handle each driver was created with, kept open across leases
+    private final Map<WebDriver, String> primaryWindows = new ConcurrentHashMap<>();
+    private final Set<WebDriver> leased = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    // Background spawning (off until startPrewarm)
+    private volatile int warmTarget;
+    private volatile Consumer<WebDriver> warmUp;
+    private volatile ExecutorService spawner;
+    private final AtomicInteger spawning = new AtomicInteger();
+    private final AtomicInteger spawnFailures = new AtomicInteger();
+
+    public DriverPool(int maxSize, Duration acquireTimeout, Supplier<WebDriver> factory,
+                      Consumer<WebDriver> disposer, Consumer<WebDriver> afterReset) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1 but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.acquireTimeout = acquireTimeout;
+        this.factory = factory;
+        this.disposer = disposer;
+        this.afterReset = afterReset;
+        this.leases = new Semaphore(maxSize, true);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Keep up to warmCount idle sessions ready in the background, each warmed up with warmUp after it
+     * started. Stops refilling after repeated start failures; leases then start browsers themselves.
+     */
+    public synchronized void startPrewarm(int warmCount, Consumer<WebDriver> warmUp) {
+        if (warmCount < 1 || spawner != null || closed) {
+            return;
+        }
+        this.warmTarget = Math.min(warmCount, maxSize);
+        this.warmUp = warmUp;
+        AtomicInteger count = new AtomicInteger();
+        this.spawner = Executors.newFixedThreadPool(warmTarget, task -> {
+            Thread thread = new Thread(task, "driver-prewarm-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        refill();
+    }
+
+    /**
+     * Lease a healthy driver, creating one if no idle driver is available.
+     * Blocks while all drivers are leased.
+     */
+    public WebDriver acquire() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool has been shut down");
+        }
+        try {
+            if (!leases.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No driver became available within " + acquireTimeout
+                    + " (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver", e);
+        }
+
+        WebDriver created = null;
+        try {
+            WebDriver driver;
+            while ((driver = nextIdle()) != null) {
+                if (isAlive(driver)) {
+                    leased.add(driver);
+                    refill();
+                    return driver;
+                }
+                discard(driver);
+            }
+            created = factory.get();
+            primaryWindows.put(created, created.getWindowHandle());
+            leased.add(created);
+            return created;
+        } catch (RuntimeException e) {
+            if (created != null) {
+                // The session started but could not be set up; do not leave its browser running
+                discard(created);
+            }
+            leases.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a leased driver. It is reset for the next lease or quit if it is no longer usable.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null || !leased.remove(driver)) {
+            return;
+        }
+        try {
+            if (!closed && reset(driver)) {
+                // LIFO keeps the most recently used (warmest) browser at the head
+                idle.offerFirst(driver);
+            } else {
+                discard(driver);
+            }
+        } finally {
+            leases.release();
+        }
+    }
+
+    /**
+     * Quit the driver instead of returning it to the pool (e.g. after a crashed session).
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver == null || !leased.remove(driver)) {
+            return;
+        }
+        discard(driver);
+        leases.release();
+    }
+
+    public void shutdown() {
+        closed = true;
+        ExecutorService background = spawner;
+        if (background != null) {
+            background.shutdownNow();
+        }
+        WebDriver driver;
+        while ((driver = idle.pollFirst()) != null) {
+            discard(driver);
+        }
+        for (WebDriver leasedDriver : leased) {
+            discard(leasedDriver);
+        }
+        leased.clear();
+    }
+
+    // Idle driver, waiting for a session that is already starting in the background rather than starting another
+    private WebDriver nextIdle() {
+        WebDriver driver = idle.pollFirst();
+        try {
+            while (driver == null && spawning.get() > 0 && !closed) {
+                driver = idle.pollFirst(50, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver", e);
+        }
+        return driver;
+    }
+
+    // Start sessions until warmTarget are idle or starting, within the pool size
+    private synchronized void refill() {
+        ExecutorService background = spawner;
+        if (background == null || closed || spawnFailures.get() >= MAX_SPAWN_FAILURES) {
+            return;
+        }
+        while (idle.size() + spawning.get() < warmTarget && idle.size() + leased.size() + spawning.get() < maxSize) {
+            spawning.incrementAndGet();
+            try {
+                background.execute(this::spawn);
+            } catch (RejectedExecutionException e) {
+                spawning.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void spawn() {
+        WebDriver driver = null;
+        try {
+            driver = factory.get();
+            primaryWindows.put(driver, driver.getWindowHandle());
+            warmUp.accept(driver);
+            spawnFailures.set(0);
+        } catch (RuntimeException e) {
+            if (driver != null) {
+                discard(driver);
+                driver = null;
+            }
+            // Leases start browsers themselves and report the error once refilling gives up
+            spawnFailures.incrementAndGet();
+        } finally {
+            if (driver != null) {
+                if (closed) {
+                    discard(driver);
+                } else {
+                    // Behind the most recently released browsers, which are reused first
+                    idle.offerLast(driver);
+                }
+            }
+            spawning.decrementAndGet();
+        }
+        refill();
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    // Bring the session back to a single blank window with no cookies or storage;
+    // false means the session is unhealthy and gets replaced by a fresh browser
+    private boolean reset(WebDriver driver) {
+        try {
+            String primary = primaryWindows.get(driver);
+            Set<String> handles = driver.getWindowHandles();
+            if (primary == null || !handles.contains(primary)) {
+                return false;
+            }
+            // On the primary window first: a first DevTools connection attaches to the current window
+            driver.switchTo().window(primary);
+            boolean cdpCookies = clearAllCookies(driver);
+            // Extra windows (e.g. opened by "View Role") may be on other origins; clear those before closing
+            for (String handle : handles) {
+                if (!handle.equals(primary)) {
+                    driver.switchTo().window(handle);
+                    clearOrigin(driver, cdpCookies);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(primary);
+            clearOrigin(driver, cdpCookies);
+            // Unload the last page so its timers, sockets and pending requests do not leak into the next test
+            driver.get("about:blank");
+            afterReset.accept(driver);
+            return driver.getWindowHandles().size() == 1;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    // All cookies of every domain in one CDP call; false when the browser does not speak CDP
+    private static boolean clearAllCookies(WebDriver driver) {
+        try {
+            return Cdp.connect(driver)
+                .map(devTools -> Cdp.send(devTools, "Network.clearBrowserCookies", Map.of()) != null)
+                .orElse(false);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    // Storage of the current window's origin, and its cookies when they could not be cleared through CDP
+    private static void clearOrigin(WebDriver driver, boolean cookiesCleared) {
+        if (!cookiesCleared) {
+            driver.manage().deleteAllCookies();
+        }
+        ((JavascriptExecutor) driver).executeScript(
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+    }
+
+    private void discard(WebDriver driver) {
+        primaryWindows.remove(driver);
+        try {
+            disposer.accept(driver);
+        } catch (WebDriverException e) {
+            // Session already gone
+        }
+        refill();
+    }
+}
@@ -0,0 +1,105 @@
+package core;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.regex.Pattern;
+
+/**
+ * Sorts test failures by cause so retries can be targeted: transient UI races are retried as a single step
+ * from its checkpoint (Steps.retryable), broken sessions and network errors justify re-running the test,
+ * and assertion failures are never retried.
+ */
+public final class FailureClassifier {
+
+    public enum Cause {
+        WAIT_TIMEOUT(true, false),
+        STALE_ELEMENT(true, false),
+        CLICK_INTERCEPTED(true, false),
+        NETWORK(true, true),
+        SESSION(false, true),
+        ASSERTION(false, false),
+        UNKNOWN(false, false);
+
+        private final boolean stepRetryable;
+        private final boolean testRetryable;
+
+        Cause(boolean stepRetryable, boolean testRetryable) {
+            this.stepRetryable = stepRetryable;
+            this.testRetryable = testRetryable;
+        }
+
+        public boolean isStepRetryable() {
+            return stepRetryable;
+        }
+
+        public boolean isTestRetryable() {
+            return testRetryable;
+        }
+    }
+
+    private static final Pattern SESSION_LOST = Pattern.compile(
+        "chrome not reachable|disconnected: |session deleted|invalid session id|Could not start a new session",
+        Pattern.CASE_INSENSITIVE);
+    private static final Pattern NETWORK_ERROR = Pattern.compile(
+        "net::ERR_|Timed out receiving message from renderer|ERR_CONNECTION|ERR_NAME_NOT_RESOLVED",
+        Pattern.CASE_INSENSITIVE);
+
+    private FailureClassifier() {
+    }
+
+    /**
+     * Cause of the outermost recognizable failure in the cause chain
+     */
+    public static Cause classify(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            Cause cause = classifyOne(current);
+            if (cause != Cause.UNKNOWN) {
+                return cause;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return Cause.UNKNOWN;
+    }
+
+    /**
+     * Cause plus the first line of the failure message, e.g. which Waits condition timed out
+     */
+    public static String describe(Throwable failure) {
+        String message = failure == null || failure.getMessage() == null ? "" : failure.getMessage().split("\\R", 2)[0];
+        return classify(failure) + (message.isEmpty() ? "" : ": " + message);
+    }
+
+    private static Cause classifyOne(Throwable failure) {
+        String message = failure.getMessage() == null ? "" : failure.getMessage();
+        if (failure instanceof NoSuchSessionException || failure instanceof SessionNotCreatedException
+                || SESSION_LOST.matcher(message).find()) {
+            return Cause.SESSION;
+        }
+        if (NETWORK_ERROR.matcher(message).find() || failure instanceof UncheckedIOException
+                || failure instanceof IOException) {
+            return Cause.NETWORK;
+        }
+        if (failure instanceof StaleElementReferenceException) {
+            return Cause.STALE_ELEMENT;
+        }
+        if (failure instanceof ElementClickInterceptedException || failure instanceof ElementNotInteractableException) {
+            return Cause.CLICK_INTERCEPTED;
+        }
+        if (failure instanceof TimeoutException) {
+            return Cause.WAIT_TIMEOUT;
+        }
+        if (failure instanceof AssertionError) {
+            return Cause.ASSERTION;
+        }
+        return Cause.UNKNOWN;
+    }
+}
@@ -0,0 +1,169 @@
+package core;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server replaying snapshots of the home, QA careers, jobs listing and Lever pages
+ * from src/test/resources/fixtures, so the flow can run offline and deterministically.
+ * Start it for a suite with -Dfixture.enabled=true; page objects then target it through base.url.
+ * Latency can be injected for every response (-Dfixture.latency-ms) and separately for the
+ * postings API the listing page loads (-Dfixture.api-latency-ms).
+ */
+public class FixtureServer {
+
+    private static final String RESOURCE_ROOT = "fixtures/";
+    // Placeholder in fixture files replaced by this server's base URL
+    private static final String BASE_URL_PLACEHOLDER = "${BASE_URL}";
+
+    private static final Map<String, String> PAGES = new LinkedHashMap<>();
+    static {
+        PAGES.put("/", "home.html");
+        PAGES.put("/careers/quality-assurance/", "careers-quality-assurance.html");
+        PAGES.put("/careers/open-positions/", "open-positions.html");
+        PAGES.put("/v0/postings/insiderone", "postings.json");
+    }
+
+    private static FixtureServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+    private final Duration apiLatency;
+
+    public FixtureServer(int port, Duration latency, Duration apiLatency) {
+        this.latency = latency;
+        this.apiLatency = apiLatency;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not bind fixture server to port " + port, e);
+        }
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Suite-wide instance configured from -Dfixture.port / -Dfixture.latency-ms / -Dfixture.api-latency-ms
+     */
+    public static synchronized FixtureServer startShared() {
+        if (shared == null) {
+            shared = new FixtureServer(
+                Config.intValue("fixture.port", 0),
+                Config.millis("fixture.latency-ms", 0),
+                Config.millis("fixture.api-latency-ms", 0));
+            shared.start();
+        }
+        return shared;
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String resource = resolve(path);
+            byte[] body = resource == null ? null : load(resource);
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            Duration delay = path.startsWith("/v0/") ? latency.plus(apiLatency) : latency;
+            if (!delay.isZero()) {
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", contentType(resource));
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // Map a request path to a fixture file; trailing slashes are optional
+    private String resolve(String path) {
+        String page = PAGES.get(path);
+        if (page == null) {
+            page = PAGES.get(path.endsWith("/") ? path.substring(0, path.length() - 1) : path + "/");
+        }
+        if (page != null) {
+            return page;
+        }
+        if (path.startsWith("/lever/")) {
+            return "lever-posting.html";
+        }
+        if (path.startsWith("/assets/") && !path.contains("..")) {
+            return path.substring(1);
+        }
+        return null;
+    }
+
+    private byte[] load(String resource) throws IOException {
+        try (InputStream in = FixtureServer.class.getClassLoader().getResourceAsStream(RESOURCE_ROOT + resource)) {
+            if (in == null) {
+                return null;
+            }
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return text.replace(BASE_URL_PLACEHOLDER, baseUrl()).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String contentType(String resource) {
+        if (resource.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        }
+        if (resource.endsWith(".json")) {
+            return "application/json; charset=utf-8";
+        }
+        if (resource.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        }
+        if (resource.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        return "application/octet-stream";
+    }
+}
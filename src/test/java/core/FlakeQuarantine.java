@@ -0,0 +1,127 @@
+package core;
+
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Flake tracking and quarantine.
+ * <ul>
+ *   <li>Tests that only passed after a step retry or a test retry are written to
+ *       target/perf-reports/flaky-tests.json with the classified causes.</li>
+ *   <li>Tests listed in -Dquarantine.file (default quarantine.txt, one qualified method name per line,
+ *       # for comments) still run, but a failure is reported as skipped instead of failing the build.</li>
+ * </ul>
+ */
+public class FlakeQuarantine implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Path REPORT_DIR = Path.of(Config.value("perf.report-dir", "target/perf-reports"));
+    private static final Set<String> QUARANTINED = readQuarantine(Path.of(Config.value("quarantine.file", "quarantine.txt")));
+
+    // Test name -> recoveries (step retries that passed, test retries)
+    private static final Map<String, List<String>> RECOVERIES = new ConcurrentHashMap<>();
+    private static final Set<String> FLAKY = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A retryable step passed after failing; recorded against the running test
+     */
+    static void stepRecovered(String step, String cause) {
+        String test = currentTestName();
+        if (test != null) {
+            recovery(test, "step '" + step + "' retried after " + cause);
+        }
+    }
+
+    static void testRetried(ITestResult result, String cause) {
+        recovery(testName(result), "test retried after " + cause);
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        String test = testName(result);
+        if (result.getStatus() == ITestResult.SUCCESS && RECOVERIES.containsKey(test)) {
+            FLAKY.add(test);
+        }
+        if (result.getStatus() == ITestResult.FAILURE && !result.wasRetried()
+                && QUARANTINED.contains(result.getMethod().getQualifiedName())) {
+            result.setStatus(ITestResult.SKIP);
+            result.setThrowable(new SkipException("Quarantined test failed: "
+                + FailureClassifier.describe(result.getThrowable()), result.getThrowable()));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (FLAKY.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> report = new TreeMap<>();
+        for (String test : FLAKY) {
+            report.put(test, RECOVERIES.get(test));
+        }
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(REPORT_DIR.resolve("flaky-tests.json"), new Json().toJson(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write flaky test report", e);
+        }
+    }
+
+    private static void recovery(String test, String detail) {
+        RECOVERIES.computeIfAbsent(test, key -> Collections.synchronizedList(new ArrayList<>())).add(detail);
+    }
+
+    private static String currentTestName() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result != null) {
+            return testName(result);
+        }
+        // Orchestrated scenarios run outside TestNG threads
+        PerfRecorder recorder = PerfRecorder.current();
+        return recorder == null ? null : recorder.getTestName();
+    }
+
+    private static String testName(ITestResult result) {
+        String name = result.getMethod().getQualifiedName();
+        if (result.getParameters().length > 0) {
+            name += Arrays.toString(result.getParameters());
+        }
+        return name;
+    }
+
+    private static Set<String> readQuarantine(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Set.of();
+        }
+        try {
+            return Files.readAllLines(file).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toUnmodifiableSet());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read quarantine file " + file, e);
+        }
+    }
+}
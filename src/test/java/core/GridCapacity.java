@@ -0,0 +1,113 @@
+package core;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chrome slot accounting for a Selenium Grid, read from its /status endpoint. New sessions are only
+ * requested when a slot is free (minus sessions this JVM is still starting), so tests queue here while
+ * the grid is busy instead of failing once the grid's own session queue times out.
+ */
+final class GridCapacity {
+
+    private final URI statusUri;
+    private final Duration pollInterval;
+    private final Duration queueTimeout;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    // Sessions requested by this JVM that the grid may not report as occupied yet
+    private int starting;
+
+    GridCapacity(String gridUrl, Duration pollInterval, Duration queueTimeout) {
+        this.statusUri = URI.create(gridUrl.replaceAll("/+$", "") + "/status");
+        this.pollInterval = pollInterval;
+        this.queueTimeout = queueTimeout;
+    }
+
+    record Slots(int total, int free) {
+    }
+
+    /**
+     * Chrome slots on nodes that are UP, or null when the grid does not expose its status
+     */
+    @SuppressWarnings("unchecked")
+    Slots slots() {
+        try {
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(statusUri).timeout(Duration.ofSeconds(10)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            Map<String, Object> status = new Json().toType(response.body(), Json.MAP_TYPE);
+            Map<String, Object> value = (Map<String, Object>) status.get("value");
+            List<Map<String, Object>> nodes = value == null ? null : (List<Map<String, Object>>) value.get("nodes");
+            if (nodes == null) {
+                return null;
+            }
+            int total = 0;
+            int free = 0;
+            for (Map<String, Object> node : nodes) {
+                if (!"UP".equals(node.get("availability"))) {
+                    continue;
+                }
+                for (Map<String, Object> slot : (List<Map<String, Object>>) node.getOrDefault("slots", List.of())) {
+                    Map<String, Object> stereotype = (Map<String, Object>) slot.getOrDefault("stereotype", Map.of());
+                    if (!"chrome".equalsIgnoreCase(String.valueOf(stereotype.get("browserName")))) {
+                        continue;
+                    }
+                    total++;
+                    if (slot.get("session") == null) {
+                        free++;
+                    }
+                }
+            }
+            return new Slots(total, free);
+        } catch (IOException | JsonException | ClassCastException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Block until the grid has a free chrome slot and reserve it; release the reservation with
+     * {@link #started()} once the session request completed (successfully or not). Returns at once
+     * when the grid status is unavailable and leaves queueing to the grid.
+     */
+    void awaitSlot() {
+        long deadline = System.nanoTime() + queueTimeout.toNanos();
+        while (true) {
+            Slots slots = slots();
+            synchronized (this) {
+                if (slots == null || slots.free() - starting > 0) {
+                    starting++;
+                    return;
+                }
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("No free chrome slot on " + statusUri + " within " + queueTimeout
+                    + " (" + slots.total() + " slots)");
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a grid slot", e);
+            }
+        }
+    }
+
+    synchronized void started() {
+        starting--;
+    }
+}
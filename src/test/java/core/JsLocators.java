@@ -0,0 +1,97 @@
+package core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bridges Selenium locators into page scripts so elements can be resolved inside the browser
+ * without extra WebDriver round trips.
+ */
+public final class JsLocators {
+
+    /**
+     * Script function findAll(using, value) returning an array of matching elements.
+     * Supports the locator strategies By.Remotable exposes for css, xpath, id, name, class name and tag name,
+     * plus 'learned': a JSON list of [using, value] pairs tried in order until one matches (see using(By)).
+     */
+    public static final String FIND_ALL_FUNCTION =
+        "function findAll(using, value, root) {" +
+        "  root = root || document;" +
+        "  if (using === 'learned') {" +
+        "    var chain = JSON.parse(value), found = [];" +
+        "    for (var c = 0; c < chain.length && found.length === 0; c++) { found = findAll(chain[c][0], chain[c][1], root); }" +
+        "    return found;" +
+        "  }" +
+        "  if (using === 'xpath') {" +
+        "    var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    var nodes = [];" +
+        "    for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }" +
+        "    return nodes;" +
+        "  }" +
+        "  var css = value;" +
+        "  if (using === 'id') { css = '#' + CSS.escape(value); }" +
+        "  else if (using === 'name') { css = '[name=\"' + value.replace(/\"/g, '\\\\\"') + '\"]'; }" +
+        "  else if (using === 'class name') { css = '.' + CSS.escape(value); }" +
+        "  return Array.prototype.slice.call(root.querySelectorAll(css));" +
+        "}" +
+        "function isVisible(el) {" +
+        "  if (!el || !el.isConnected) { return false; }" +
+        "  var style = window.getComputedStyle(el);" +
+        "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }" +
+        "  var rect = el.getBoundingClientRect();" +
+        "  return rect.width > 0 && rect.height > 0;" +
+        "}";
+
+    private static final String LEARNED = "learned";
+    private static final List<String> SUPPORTED = List.of("css selector", "xpath", "id", "name", "class name", "tag name");
+
+    private JsLocators() {
+    }
+
+    /**
+     * Learned locators are supported when their full union is
+     */
+    public static boolean isSupported(By locator) {
+        if (locator instanceof LearnedLocator) {
+            locator = ((LearnedLocator) locator).getUnion();
+        }
+        return locator instanceof By.Remotable
+            && SUPPORTED.contains(((By.Remotable) locator).getRemoteParameters().using());
+    }
+
+    /**
+     * Locator strategy name as understood by findAll. Learned locators are 'learned', evaluated in the page
+     * like LearnedLocator.findElements: the narrowed locator when one was learned, the union when it finds nothing.
+     */
+    public static String using(By locator) {
+        return locator instanceof LearnedLocator ? LEARNED : parameters(locator).using();
+    }
+
+    public static String value(By locator) {
+        if (!(locator instanceof LearnedLocator)) {
+            return String.valueOf(parameters(locator).value());
+        }
+        LearnedLocator learned = (LearnedLocator) locator;
+        List<List<String>> chain = new ArrayList<>();
+        By narrowed = LocatorRegistry.isEnabled() ? LocatorRegistry.entry(learned).getNarrowed() : null;
+        for (By candidate : narrowed == null ? List.of(learned.getUnion()) : List.of(narrowed, learned.getUnion())) {
+            By.Remotable.Parameters parameters = parameters(candidate);
+            chain.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+        }
+        return new Json().toJson(chain);
+    }
+
+    private static By.Remotable.Parameters parameters(By locator) {
+        if (!isSupported(locator)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in a page script: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        // tag name is a valid css selector as is
+        return "tag name".equals(parameters.using())
+            ? new By.Remotable.Parameters("css selector", parameters.value())
+            : parameters;
+    }
+}
@@ -0,0 +1,109 @@
+package core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram in milliseconds with HdrHistogram-style log-linear buckets: values below 128
+ * are exact, larger ones share a bucket with values within 1/64 (about 1.5%) of them, so percentiles keep two
+ * significant digits at a fixed, small footprint however many samples are recorded. Values above the
+ * highest trackable one are counted as that value.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long highestTrackable;
+    private final AtomicLongArray counts;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram(long highestTrackableMillis) {
+        this.highestTrackable = Math.max(SUB_BUCKET_COUNT, highestTrackableMillis);
+        this.counts = new AtomicLongArray(index(highestTrackable) + 1);
+    }
+
+    /**
+     * Histogram for latencies up to one hour
+     */
+    public LatencyHistogram() {
+        this(3_600_000L);
+    }
+
+    public void record(long millis) {
+        long value = Math.min(Math.max(0, millis), highestTrackable);
+        counts.incrementAndGet(index(value));
+        total.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long count = total.get();
+        return count == 0 ? 0 : (double) sum.get() / count;
+    }
+
+    /**
+     * Value at the given percentile (0-100): the highest value equivalent to the bucket holding that rank,
+     * capped at the largest recorded value; 0 when empty
+     */
+    public long percentile(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * count, mean, p50/p95/p99, max and throughput over the given run time, for reports
+     */
+    public Map<String, Object> toReport(double elapsedSeconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("count", count());
+        report.put("meanMs", Math.round(mean()));
+        report.put("p50Ms", percentile(50));
+        report.put("p95Ms", percentile(95));
+        report.put("p99Ms", percentile(99));
+        report.put("maxMs", max());
+        report.put("perSecond", elapsedSeconds <= 0 ? 0 : Math.round(count() / elapsedSeconds * 100) / 100.0);
+        return report;
+    }
+
+    // Bucket 0 holds 0..127 one by one; bucket b > 0 holds 64..127 shifted left by b
+    private static int index(long value) {
+        int bucket = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int subBucket = (int) (value >>> bucket);
+        return (bucket << (SUB_BUCKET_BITS - 1)) + subBucket;
+    }
+
+    private static long highestEquivalent(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = (index >> (SUB_BUCKET_BITS - 1)) - 1;
+        long subBucket = index - ((long) bucket << (SUB_BUCKET_BITS - 1));
+        return ((subBucket + 1) << bucket) - 1;
+    }
+}
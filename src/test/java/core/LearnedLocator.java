@@ -0,0 +1,87 @@
+package core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Locator built from a full union and its individual alternatives (CSS ones first). Lookups use the
+ * narrowed locator LocatorRegistry learned for the current site version and fall back to the full
+ * union only when it finds nothing; a union hit after such a miss triggers relearning.
+ * <p>
+ * Deliberately not By.Remotable: the driver would send the union straight to the browser and bypass
+ * findElements.
+ */
+public class LearnedLocator extends By {
+
+    private final String name;
+    private final By union;
+    private final List<By> alternatives;
+
+    LearnedLocator(String name, By union, List<By> alternatives) {
+        this.name = name;
+        this.union = union;
+        this.alternatives = List.copyOf(alternatives);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The full union, used as fallback and until a narrowing is learned
+     */
+    public By getUnion() {
+        return union;
+    }
+
+    public List<By> getAlternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        // The driver hands over itself, not its command-counting decorator; look up through the decorator
+        SearchContext lookup = DriverFactory.counted(context);
+        if (!LocatorRegistry.isEnabled()) {
+            return find(context, lookup, union);
+        }
+        LocatorRegistry.Entry entry = LocatorRegistry.entry(this);
+        By narrowed = entry.getNarrowed();
+        if (narrowed != null) {
+            List<WebElement> found = find(context, lookup, narrowed);
+            if (!found.isEmpty()) {
+                entry.narrowedHit();
+                return found;
+            }
+        }
+        List<WebElement> found = find(context, lookup, union);
+        entry.unionLookup();
+        if (!found.isEmpty() && (narrowed != null || !entry.isLearned())) {
+            LocatorRegistry.learn(entry, lookup);
+        }
+        return found;
+    }
+
+    // Elements as the context would have returned them: the caller's decorator wraps them once more
+    private static List<WebElement> find(SearchContext context, SearchContext lookup, By locator) {
+        List<WebElement> found = lookup.findElements(locator);
+        if (lookup == context) {
+            return found;
+        }
+        List<WebElement> unwrapped = new ArrayList<>(found.size());
+        for (WebElement element : found) {
+            unwrapped.add(element instanceof WrapsElement ? ((WrapsElement) element).getWrappedElement() : element);
+        }
+        return unwrapped;
+    }
+
+    @Override
+    public String toString() {
+        return "By.learned(" + name + "): " + union;
+    }
+}
@@ -0,0 +1,209 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Runs a browser scenario as a load test: -Dload.users virtual users, each on its own thread and leased
+ * browser, started evenly over -Dload.ramp-up-ms and repeating the scenario until -Dload.duration-ms has
+ * passed (or -Dload.iterations per user are done), pausing -Dload.think-ms between iterations.
+ * <p>
+ * Latencies of every passed Steps.step and of whole iterations go into LatencyHistograms; failed steps and
+ * iterations are counted per FailureClassifier cause. A user whose browser session broke gets a new one.
+ * The summary (p50/p95/p99, max, throughput) is written to target/perf-reports/load-&lt;name&gt;.json.
+ */
+public class LoadRunner {
+
+    private static final Path REPORT_DIR = Path.of(Config.value("perf.report-dir", "target/perf-reports"));
+    private static final String ITERATION = "iteration";
+
+    public record Result(String name, int users, Duration elapsed, Map<String, LatencyHistogram> latencies,
+                         Map<String, Long> stepErrors, Map<String, Long> failuresByCause, long failedIterations) {
+
+        public LatencyHistogram iterations() {
+            return latencies.get(ITERATION);
+        }
+
+        public double errorRate() {
+            long total = iterations().count() + failedIterations;
+            return total == 0 ? 0 : (double) failedIterations / total;
+        }
+
+        public Map<String, Object> toReport() {
+            double seconds = elapsed.toMillis() / 1000.0;
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("scenario", name);
+            report.put("users", users);
+            report.put("elapsedMs", elapsed.toMillis());
+            report.put("failedIterations", failedIterations);
+            report.put("errorRate", Math.round(errorRate() * 10000) / 10000.0);
+            report.put("failuresByCause", failuresByCause);
+            Map<String, Object> rows = new LinkedHashMap<>();
+            latencies.forEach((step, histogram) -> {
+                Map<String, Object> row = histogram.toReport(seconds);
+                row.put("errors", stepErrors.getOrDefault(step, 0L));
+                rows.put(step, row);
+            });
+            report.put("latencies", rows);
+            return report;
+        }
+    }
+
+    private final int users;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final int iterationsPerUser;
+    private final Duration thinkTime;
+
+    public LoadRunner(int users, Duration rampUp, Duration duration, int iterationsPerUser, Duration thinkTime) {
+        if (users > DriverFactory.getPoolSize()) {
+            throw new IllegalArgumentException(users + " virtual users need as many pooled browsers; "
+                + "raise -Ddriver.pool.size (currently " + DriverFactory.getPoolSize() + ")");
+        }
+        this.users = users;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.iterationsPerUser = iterationsPerUser;
+        this.thinkTime = thinkTime;
+    }
+
+    public static LoadRunner fromConfig() {
+        return new LoadRunner(
+            Config.intValue("load.users", DriverFactory.getPoolSize()),
+            Config.millis("load.ramp-up-ms", 30_000),
+            Config.millis("load.duration-ms", 120_000),
+            Config.intValue("load.iterations", 0),
+            Config.millis("load.think-ms", 0));
+    }
+
+    /**
+     * Run the scenario with all virtual users and write the report. The scenario gets the user's browser
+     * and a run-wide iteration number (e.g. to rotate test data).
+     */
+    public Result run(String name, ObjIntConsumer<WebDriver> scenario) {
+        Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+        latencies.put(ITERATION, new LatencyHistogram());
+        Map<String, AtomicLong> stepErrors = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> failuresByCause = new ConcurrentHashMap<>();
+        AtomicLong failedIterations = new AtomicLong();
+        AtomicInteger sequence = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Thread> threads = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            long startDelay = users == 1 ? 0 : rampUp.toMillis() * user / (users - 1);
+            String userName = name + "-user" + user;
+            Thread thread = new Thread(() -> {
+                if (!sleep(startDelay)) {
+                    return;
+                }
+                WebDriver driver = DriverFactory.getDriver();
+                try {
+                    for (int iteration = 0; iterationsPerUser == 0 || iteration < iterationsPerUser; iteration++) {
+                        if (System.nanoTime() >= deadline) {
+                            break;
+                        }
+                        PerfRecorder recorder = PerfRecorder.start(userName);
+                        long iterationStart = System.nanoTime();
+                        Throwable failure = null;
+                        try {
+                            scenario.accept(driver, sequence.getAndIncrement());
+                        } catch (RuntimeException | AssertionError e) {
+                            failure = e;
+                        } finally {
+                            PerfRecorder.stop();
+                        }
+                        for (PerfRecorder.StepTiming step : recorder.getSteps()) {
+                            if (step.passed()) {
+                                latencies.computeIfAbsent(step.name(), key -> new LatencyHistogram()).record(step.durationMs());
+                            } else {
+                                stepErrors.computeIfAbsent(step.name(), key -> new AtomicLong()).incrementAndGet();
+                            }
+                        }
+                        if (failure == null) {
+                            latencies.get(ITERATION).record(Duration.ofNanos(System.nanoTime() - iterationStart).toMillis());
+                        } else {
+                            FailureClassifier.Cause cause = FailureClassifier.classify(failure);
+                            failedIterations.incrementAndGet();
+                            failuresByCause.computeIfAbsent(cause.name(), key -> new AtomicLong()).incrementAndGet();
+                            if (cause == FailureClassifier.Cause.SESSION) {
+                                DriverFactory.discardDriver();
+                                driver = DriverFactory.getDriver();
+                            }
+                        }
+                        if (!sleep(thinkTime.toMillis())) {
+                            break;
+                        }
+                    }
+                } finally {
+                    DriverFactory.releaseDriver();
+                }
+            }, userName);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                threads.forEach(Thread::interrupt);
+                break;
+            }
+        }
+
+        Map<String, LatencyHistogram> ordered = new LinkedHashMap<>();
+        ordered.put(ITERATION, latencies.remove(ITERATION));
+        ordered.putAll(new TreeMap<>(latencies));
+        Result result = new Result(name, users, Duration.ofNanos(System.nanoTime() - start), ordered,
+            counts(stepErrors), counts(failuresByCause), failedIterations.get());
+        write(result);
+        return result;
+    }
+
+    private static Map<String, Long> counts(Map<String, AtomicLong> counters) {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((key, value) -> counts.put(key, value.get()));
+        return counts;
+    }
+
+    private static void write(Result result) {
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(REPORT_DIR.resolve("load-" + PerfReportListener.safeName(result.name()) + ".json"),
+                new Json().toJson(result.toReport()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load report for " + result.name(), e);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
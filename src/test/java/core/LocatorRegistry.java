@@ -0,0 +1,212 @@
+package core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Learned locators for the page objects, keyed by locator name and site version
+ * (-Dlocators.version, defaults to the base URL). On the first successful lookup every alternative is
+ * evaluated against the full union in one script call; the cheapest equivalent is cached:
+ * <ol>
+ *   <li>the first alternative matching exactly the same elements (alternatives are declared CSS first),</li>
+ *   <li>otherwise a CSS selector list of the matching alternatives, when all of them are CSS,</li>
+ *   <li>otherwise nothing, and the union keeps being used.</li>
+ * </ol>
+ * Alternatives that matched nothing are reported as dead branches in target/perf-reports/locators.json.
+ * -Dlocators.learn=false always uses the full union.
+ */
+public final class LocatorRegistry {
+
+    private static final boolean ENABLED = Config.boolValue("locators.learn", true);
+    private static final Path REPORT_DIR = Path.of(Config.value("perf.report-dir", "target/perf-reports"));
+
+    // Per alternative: match count and whether it matches exactly the union's elements (both in document order).
+    // Also the CSS selector list of all matching alternatives when that list is equivalent to the union.
+    private static final String LEARN_SCRIPT = JsLocators.FIND_ALL_FUNCTION +
+        "var root = arguments[2] || document, alternatives = arguments[3];" +
+        "var union = findAll(arguments[0], arguments[1], root);" +
+        "function same(found) {" +
+        "  return found.length === union.length && found.every(function(el, i) { return el === union[i]; });" +
+        "}" +
+        "var branches = alternatives.map(function(alt) {" +
+        "  try {" +
+        "    var found = findAll(alt[0], alt[1], root);" +
+        "    return {count: found.length, equal: same(found)};" +
+        "  } catch (e) { return {count: -1, equal: false}; }" +
+        "});" +
+        "var matching = alternatives.filter(function(alt, i) { return branches[i].count > 0; });" +
+        "var list = null;" +
+        "if (matching.length > 0 && matching.every(function(alt) { return alt[0] === 'css selector'; })) {" +
+        "  var selector = matching.map(function(alt) { return alt[1]; }).join(', ');" +
+        "  if (same(findAll('css selector', selector, root))) { list = selector; }" +
+        "}" +
+        "return {branches: branches, list: list};";
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Locator trying the learned narrowing of the alternatives before the full union
+     */
+    public static By locator(String name, By union, By... alternatives) {
+        for (By alternative : alternatives) {
+            if (!JsLocators.isSupported(alternative)) {
+                throw new IllegalArgumentException("Alternative of " + name + " cannot be evaluated in a page script: " + alternative);
+            }
+        }
+        return new LearnedLocator(name, union, Arrays.asList(alternatives));
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static Entry entry(LearnedLocator locator) {
+        String version = Config.value("locators.version", Config.value("base.url", "default"));
+        return ENTRIES.computeIfAbsent(locator.getName() + "@" + version, key -> new Entry(key, locator));
+    }
+
+    @SuppressWarnings("unchecked")
+    static void learn(Entry entry, SearchContext context) {
+        JavascriptExecutor js;
+        WebElement root = null;
+        if (context instanceof JavascriptExecutor) {
+            js = (JavascriptExecutor) context;
+        } else if (context instanceof WebElement && context instanceof WrapsDriver) {
+            js = (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+            root = (WebElement) context;
+        } else {
+            entry.learned(null, null);
+            return;
+        }
+        LearnedLocator locator = entry.locator;
+        List<List<String>> alternatives = new ArrayList<>();
+        for (By alternative : locator.getAlternatives()) {
+            alternatives.add(List.of(JsLocators.using(alternative), JsLocators.value(alternative)));
+        }
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) js.executeScript(LEARN_SCRIPT,
+                JsLocators.using(locator.getUnion()), JsLocators.value(locator.getUnion()), root, alternatives);
+        } catch (WebDriverException e) {
+            // Page navigated or context went stale; try again on the next union hit
+            return;
+        }
+        List<Map<String, Object>> branches = (List<Map<String, Object>>) result.get("branches");
+        int[] counts = new int[branches.size()];
+        By narrowed = null;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = ((Number) branches.get(i).get("count")).intValue();
+            if (narrowed == null && Boolean.TRUE.equals(branches.get(i).get("equal"))) {
+                narrowed = locator.getAlternatives().get(i);
+            }
+        }
+        if (narrowed == null && result.get("list") != null) {
+            narrowed = By.cssSelector((String) result.get("list"));
+        }
+        entry.learned(narrowed, counts);
+    }
+
+    /**
+     * Write what was learned per locator, including dead branches, to target/perf-reports/locators.json
+     */
+    public static void writeReport() {
+        if (ENTRIES.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> report = new ArrayList<>();
+        ENTRIES.values().stream()
+            .sorted((a, b) -> a.key.compareTo(b.key))
+            .forEach(entry -> report.add(entry.toReport()));
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(REPORT_DIR.resolve("locators.json"), new Json().toJson(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write locator report", e);
+        }
+    }
+
+    static final class Entry {
+        private final String key;
+        private final LearnedLocator locator;
+        private final AtomicLong narrowedHits = new AtomicLong();
+        private final AtomicLong unionLookups = new AtomicLong();
+        private final AtomicLong learnCount = new AtomicLong();
+        private volatile By narrowed;
+        private volatile boolean learned;
+        private volatile int[] branchMatches;
+
+        private Entry(String key, LearnedLocator locator) {
+            this.key = key;
+            this.locator = locator;
+        }
+
+        By getNarrowed() {
+            return narrowed;
+        }
+
+        boolean isLearned() {
+            return learned;
+        }
+
+        void narrowedHit() {
+            narrowedHits.incrementAndGet();
+        }
+
+        void unionLookup() {
+            unionLookups.incrementAndGet();
+        }
+
+        private void learned(By narrowed, int[] branchMatches) {
+            this.narrowed = narrowed;
+            this.branchMatches = branchMatches;
+            this.learned = true;
+            learnCount.incrementAndGet();
+        }
+
+        private Map<String, Object> toReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("locator", key);
+            report.put("union", String.valueOf(locator.getUnion()));
+            report.put("narrowed", narrowed == null ? null : String.valueOf(narrowed));
+            report.put("narrowedHits", narrowedHits.get());
+            report.put("unionLookups", unionLookups.get());
+            report.put("learnCount", learnCount.get());
+            List<Map<String, Object>> branches = new ArrayList<>();
+            List<String> dead = new ArrayList<>();
+            int[] matches = branchMatches;
+            for (int i = 0; i < locator.getAlternatives().size(); i++) {
+                String alternative = String.valueOf(locator.getAlternatives().get(i));
+                Map<String, Object> branch = new LinkedHashMap<>();
+                branch.put("alternative", alternative);
+                branch.put("matches", matches == null ? null : matches[i]);
+                branches.add(branch);
+                if (matches != null && matches[i] == 0) {
+                    dead.add(alternative);
+                }
+            }
+            report.put("branches", branches);
+            report.put("deadBranches", dead);
+            return report;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Captures where a click navigates to without loading the target page, whatever that target is. While open:
+ * <ul>
+ *   <li>in the page, clicks on links that leave the current document and window.open calls are recorded and
+ *       cancelled, so no new tab is opened;</li>
+ *   <li>through CDP, document requests of the current tab's main frame (e.g. a location change made by the
+ *       site's script) are recorded and aborted before they are sent. When NetworkCache owns the Fetch domain
+ *       it hands paused requests to {@link #intercept} first.</li>
+ * </ul>
+ * The first navigation is the captured one. Navigations neither hook sees (e.g. a script-driven location change
+ * when CDP is unavailable) go ahead as usual.
+ */
+public final class NavigationCapture implements AutoCloseable {
+
+    private static final String INSTALL_SCRIPT =
+        "if (window.__navCapture) { window.__navCapture.uninstall(); }" +
+        "var state = {url: null};" +
+        "function resolve(url) { try { return new URL(String(url), location.href).href; } catch (e) { return null; } }" +
+        "function leaves(url) {" +
+        "  var target = new URL(url), here = new URL(location.href);" +
+        "  if (target.protocol !== 'http:' && target.protocol !== 'https:') { return false; }" +
+        "  target.hash = ''; here.hash = '';" +
+        "  return target.href !== here.href || url.indexOf('#') < 0;" +
+        "}" +
+        "function record(url) { if (!state.url) { state.url = url; } }" +
+        "function onClick(event) {" +
+        "  var path = event.composedPath ? event.composedPath() : [event.target];" +
+        "  for (var i = 0; i < path.length; i++) {" +
+        "    var node = path[i];" +
+        "    if (node.tagName === 'A' && node.href) {" +
+        "      if (!node.hasAttribute('download') && leaves(node.href)) { record(node.href); event.preventDefault(); }" +
+        "      return;" +
+        "    }" +
+        "  }" +
+        "}" +
+        "var open = window.open;" +
+        "window.open = function(url) {" +
+        "  var target = url == null || url === '' ? 'about:blank' : resolve(url);" +
+        "  record(target || String(url));" +
+        "  return null;" +
+        "};" +
+        "window.addEventListener('click', onClick, true);" +
+        "state.uninstall = function() {" +
+        "  window.removeEventListener('click', onClick, true);" +
+        "  window.open = open;" +
+        "  delete window.__navCapture;" +
+        "};" +
+        "window.__navCapture = state;";
+
+    private static final String READ_SCRIPT = "return window.__navCapture ? window.__navCapture.url : null;";
+    private static final String UNINSTALL_SCRIPT = "if (window.__navCapture) { window.__navCapture.uninstall(); }";
+
+    // Open capture per DevTools session, consulted for every paused request
+    private static final Map<DevTools, NavigationCapture> ACTIVE = new ConcurrentHashMap<>();
+    // Sessions with our own Fetch.requestPaused listener (only used while NetworkCache is off)
+    private static final Set<DevTools> LISTENING = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final WebDriver driver;
+    private final DevTools devTools;
+    private final String mainFrame;
+    private final boolean ownsFetch;
+    private final AtomicReference<String> requested = new AtomicReference<>();
+
+    private NavigationCapture(WebDriver driver, DevTools devTools, String mainFrame, boolean ownsFetch) {
+        this.driver = driver;
+        this.devTools = devTools;
+        this.mainFrame = mainFrame;
+        this.ownsFetch = ownsFetch;
+    }
+
+    /**
+     * Start capturing navigations of the current window
+     */
+    public static NavigationCapture start(WebDriver driver) {
+        DevTools devTools = null;
+        String mainFrame = null;
+        boolean ownsFetch = false;
+        try {
+            Optional<DevTools> connected = Cdp.connect(driver);
+            // Fetch only sees requests of the window the DevTools session is attached to
+            if (connected.isPresent() && driver.getWindowHandle().equals(Cdp.sessionWindow(driver))) {
+                mainFrame = mainFrame(connected.get());
+            }
+            if (mainFrame != null) {
+                devTools = connected.get();
+                if (!NetworkCache.isEnabled()) {
+                    listen(devTools);
+                    Cdp.send(devTools, "Fetch.enable", Map.of("patterns", List.of(
+                        Map.of("urlPattern", "*", "resourceType", "Document", "requestStage", "Request"))));
+                    ownsFetch = true;
+                }
+            }
+        } catch (WebDriverException e) {
+            // In-page capture only
+            devTools = null;
+        }
+        NavigationCapture capture = new NavigationCapture(driver, devTools, mainFrame, ownsFetch);
+        if (devTools != null) {
+            ACTIVE.put(devTools, capture);
+        }
+        ((JavascriptExecutor) driver).executeScript(INSTALL_SCRIPT);
+        return capture;
+    }
+
+    /**
+     * Handle a paused Fetch request on behalf of the Fetch domain's owner: true when it was a captured
+     * navigation and has been aborted, false when the owner should process it as usual
+     */
+    @SuppressWarnings("unchecked")
+    static boolean intercept(DevTools devTools, Map<String, Object> event) {
+        NavigationCapture capture = ACTIVE.get(devTools);
+        if (capture == null || !"Document".equals(event.get("resourceType")) || !capture.mainFrame.equals(event.get("frameId"))
+            || event.containsKey("responseStatusCode") || event.containsKey("responseErrorReason")) {
+            return false;
+        }
+        capture.requested.compareAndSet(null, String.valueOf(((Map<String, Object>) event.get("request")).get("url")));
+        Cdp.send(devTools, "Fetch.failRequest", Map.of("requestId", event.get("requestId"), "errorReason", "Aborted"));
+        return true;
+    }
+
+    /**
+     * URL of the first navigation, waiting at most timeout for it to start; empty when none was captured
+     */
+    public Optional<String> await(Waits waits, Duration timeout) {
+        try {
+            return Optional.of(waits.getWait(timeout).until("navigation", webDriver -> captured()));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String captured() {
+        if (requested.get() != null) {
+            return requested.get();
+        }
+        try {
+            Object url = ((JavascriptExecutor) driver).executeScript(READ_SCRIPT);
+            return url == null ? requested.get() : String.valueOf(url);
+        } catch (WebDriverException e) {
+            // Document is being replaced by a navigation the capture did not see
+            return requested.get();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (devTools != null) {
+            ACTIVE.remove(devTools, this);
+            if (ownsFetch) {
+                try {
+                    Cdp.send(devTools, "Fetch.disable", Map.of());
+                } catch (WebDriverException e) {
+                    // Session gone
+                }
+            }
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(UNINSTALL_SCRIPT);
+        } catch (WebDriverException e) {
+            // Page navigated away or window closed; nothing left to restore
+        }
+    }
+
+    // Iframes load documents too; only the main frame's navigation is the click's
+    private static String mainFrame(DevTools devTools) {
+        Object frameTree = Cdp.send(devTools, "Page.getFrameTree", Map.of()).get("frameTree");
+        Object frame = frameTree instanceof Map ? ((Map<?, ?>) frameTree).get("frame") : null;
+        return frame instanceof Map ? String.valueOf(((Map<?, ?>) frame).get("id")) : null;
+    }
+
+    private static void listen(DevTools devTools) {
+        if (!LISTENING.add(devTools)) {
+            return;
+        }
+        Cdp.on(devTools, "Fetch.requestPaused", event -> {
+            try {
+                if (intercept(devTools, event)) {
+                    return;
+                }
+            } catch (WebDriverException e) {
+                // Could not abort it; let it through
+            }
+            try {
+                Cdp.send(devTools, "Fetch.continueRequest", Map.of("requestId", event.get("requestId")));
+            } catch (WebDriverException e) {
+                // Request already gone (navigation or closed tab)
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-flight request tracking through CDP Network events, used to detect network idle without
+ * any WebDriver round trips. One tracker per driver, attached on first use; it only describes
+ * the window the driver's DevTools session is attached to.
+ */
+final class NetworkActivity {
+
+    private static final Map<WebDriver, NetworkActivity> TRACKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String windowHandle;
+    // requestId -> start time (nanos)
+    private final Map<String, Long> inflight = new ConcurrentHashMap<>();
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    private NetworkActivity(String windowHandle) {
+        this.windowHandle = windowHandle;
+    }
+
+    /**
+     * Tracker for the driver, or empty when the browser does not speak CDP
+     */
+    static Optional<NetworkActivity> of(WebDriver driver) {
+        synchronized (TRACKERS) {
+            NetworkActivity tracker = TRACKERS.get(driver);
+            if (tracker == null) {
+                try {
+                    Optional<DevTools> devTools = Cdp.connect(driver);
+                    if (devTools.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    tracker = new NetworkActivity(Cdp.sessionWindow(driver));
+                    tracker.install(devTools.get());
+                } catch (WebDriverException e) {
+                    return Optional.empty();
+                }
+                TRACKERS.put(driver, tracker);
+            }
+            return Optional.of(tracker);
+        }
+    }
+
+    private void install(DevTools devTools) {
+        Cdp.on(devTools, "Network.requestWillBeSent", event -> {
+            inflight.put(String.valueOf(event.get("requestId")), System.nanoTime());
+            lastActivityNanos = System.nanoTime();
+        });
+        Cdp.on(devTools, "Network.loadingFinished", event -> finished(event.get("requestId")));
+        Cdp.on(devTools, "Network.loadingFailed", event -> finished(event.get("requestId")));
+        Cdp.send(devTools, "Network.enable", Map.of());
+    }
+
+    private void finished(Object requestId) {
+        inflight.remove(String.valueOf(requestId));
+        lastActivityNanos = System.nanoTime();
+    }
+
+    boolean covers(String currentWindowHandle) {
+        return windowHandle.equals(currentWindowHandle);
+    }
+
+    /**
+     * No request in flight (ignoring long-lived ones such as polling or streaming) for at least quietPeriod
+     */
+    boolean isIdle(Duration quietPeriod, Duration ignoreOlderThan) {
+        long now = System.nanoTime();
+        long cutoff = now - ignoreOlderThan.toNanos();
+        boolean busy = inflight.values().stream().anyMatch(start -> start > cutoff);
+        return !busy && now - lastActivityNanos >= quietPeriod.toNanos();
+    }
+}
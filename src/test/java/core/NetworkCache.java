@@ -0,0 +1,209 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Record-and-replay cache for browser traffic, implemented with the CDP Fetch domain.
+ * Successful GET responses are archived on disk on first sight and fulfilled from the archive on
+ * later runs until their TTL expires. Requests matching the pass-through pattern (by default the
+ * job postings XHR) always go to the network so filtering stays live.
+ *
+ * <ul>
+ *   <li>-Dnetcache.mode=off|replay|record: replay serves hits and records misses, record always refreshes</li>
+ *   <li>-Dnetcache.dir: archive directory (default target/network-archive)</li>
+ *   <li>-Dnetcache.default-ttl-seconds: TTL when no rule matches (default one day)</li>
+ *   <li>-Dnetcache.ttl-rules: "regex=seconds;regex=seconds", first match wins, 0 disables caching</li>
+ *   <li>-Dnetcache.passthrough: regex of URLs never cached</li>
+ * </ul>
+ */
+public class NetworkCache {
+
+    private static final String MODE = Config.value("netcache.mode", "off").toLowerCase(Locale.ROOT);
+    private static final Path ARCHIVE = Path.of(Config.value("netcache.dir", "target/network-archive"));
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(Config.intValue("netcache.default-ttl-seconds", 86_400));
+    private static final List<TtlRule> TTL_RULES = parseRules(Config.value("netcache.ttl-rules", ""));
+    private static final Pattern PASSTHROUGH = Pattern.compile(Config.value("netcache.passthrough",
+        "/v0/postings|api\\.lever\\.co|admin-ajax\\.php|/wp-json/"));
+    // Bodies are stored decoded, so transfer headers of the original response no longer apply
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "set-cookie", "transfer-encoding");
+
+    private static final Json JSON = new Json();
+
+    private record TtlRule(Pattern pattern, Duration ttl) {
+    }
+
+    private final DevTools devTools;
+    private final boolean replay;
+
+    private NetworkCache(DevTools devTools, boolean replay) {
+        this.devTools = devTools;
+        this.replay = replay;
+    }
+
+    public static boolean isEnabled() {
+        return !"off".equals(MODE);
+    }
+
+    /**
+     * Install the cache on a freshly created driver when -Dnetcache.mode is not off
+     */
+    public static void attachIfEnabled(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        Cdp.connect(driver).ifPresent(devTools -> new NetworkCache(devTools, "replay".equals(MODE)).install());
+    }
+
+    private void install() {
+        Cdp.on(devTools, "Fetch.requestPaused", this::onRequestPaused);
+        Cdp.send(devTools, "Fetch.enable", Map.of("patterns", List.of(
+            Map.of("urlPattern", "*", "requestStage", "Request"),
+            Map.of("urlPattern", "*", "requestStage", "Response"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestPaused(Map<String, Object> event) {
+        String requestId = (String) event.get("requestId");
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        String url = (String) request.get("url");
+        boolean cacheable = "GET".equals(request.get("method")) && !PASSTHROUGH.matcher(url).find() && !ttl(url).isZero();
+        boolean responseStage = event.containsKey("responseStatusCode") || event.containsKey("responseErrorReason");
+
+        try {
+            if (NavigationCapture.intercept(devTools, event)) {
+                return;
+            }
+            if (!responseStage) {
+                Map<String, Object> entry = cacheable && replay ? read(url) : null;
+                if (entry != null) {
+                    Cdp.send(devTools, "Fetch.fulfillRequest", Map.of(
+                        "requestId", requestId,
+                        "responseCode", entry.get("status"),
+                        "responseHeaders", entry.get("headers"),
+                        "body", entry.get("body")));
+                    return;
+                }
+            } else if (cacheable && Number.class.isInstance(event.get("responseStatusCode"))
+                && ((Number) event.get("responseStatusCode")).intValue() == 200) {
+                record(requestId, url, (List<Map<String, Object>>) event.get("responseHeaders"));
+            }
+            Cdp.send(devTools, "Fetch.continueRequest", Map.of("requestId", requestId));
+        } catch (WebDriverException | UncheckedIOException e) {
+            // Never stall the page because of the cache; let the request through
+            try {
+                Cdp.send(devTools, "Fetch.continueRequest", Map.of("requestId", requestId));
+            } catch (WebDriverException ignored) {
+                // Request already gone (navigation or closed tab)
+            }
+        }
+    }
+
+    private void record(String requestId, String url, List<Map<String, Object>> responseHeaders) {
+        Map<String, Object> body = Cdp.send(devTools, "Fetch.getResponseBody", Map.of("requestId", requestId));
+        String base64 = Boolean.TRUE.equals(body.get("base64Encoded"))
+            ? (String) body.get("body")
+            : Base64.getEncoder().encodeToString(((String) body.get("body")).getBytes(StandardCharsets.UTF_8));
+
+        List<Map<String, Object>> headers = new ArrayList<>();
+        if (responseHeaders != null) {
+            for (Map<String, Object> header : responseHeaders) {
+                if (!DROPPED_HEADERS.contains(String.valueOf(header.get("name")).toLowerCase(Locale.ROOT))) {
+                    headers.add(header);
+                }
+            }
+        }
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("url", url);
+        entry.put("status", 200);
+        entry.put("storedAt", System.currentTimeMillis());
+        entry.put("headers", headers);
+        entry.put("body", base64);
+        write(url, entry);
+    }
+
+    // Archived entry or null when missing or expired (expired entries are evicted)
+    private Map<String, Object> read(String url) {
+        Path file = fileFor(url);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            Map<String, Object> entry = JSON.toType(Files.readString(file), Json.MAP_TYPE);
+            long storedAt = ((Number) entry.get("storedAt")).longValue();
+            if (System.currentTimeMillis() - storedAt > ttl(url).toMillis()) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void write(String url, Map<String, Object> entry) {
+        Path file = fileFor(url);
+        try {
+            Files.createDirectories(ARCHIVE);
+            // Write then move so concurrent browsers never read a partial entry
+            Path temp = Files.createTempFile(ARCHIVE, "entry", ".tmp");
+            Files.writeString(temp, JSON.toJson(entry));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive response for " + url, e);
+        }
+    }
+
+    private static Duration ttl(String url) {
+        for (TtlRule rule : TTL_RULES) {
+            if (rule.pattern().matcher(url).find()) {
+                return rule.ttl();
+            }
+        }
+        return DEFAULT_TTL;
+    }
+
+    private static Path fileFor(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return ARCHIVE.resolve(HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<TtlRule> parseRules(String spec) {
+        List<TtlRule> rules = new ArrayList<>();
+        for (String rule : spec.split(";")) {
+            int separator = rule.lastIndexOf('=');
+            if (rule.isBlank() || separator < 1) {
+                continue;
+            }
+            rules.add(new TtlRule(Pattern.compile(rule.substring(0, separator).trim()),
+                Duration.ofSeconds(Long.parseLong(rule.substring(separator + 1).trim()))));
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,266 @@
+package core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Load performance of the page a page object is on, checked against per-page budgets so the suite
+ * catches slow pages and not only broken ones. -Dpageperf.mode selects off (default), report (metrics
+ * go to the test's perf report) or enforce (a budget overrun also fails the test).
+ * <p>
+ * Metrics, each a budget name: ttfb-ms, fcp-ms, dcl-ms and load-ms from Navigation Timing, lcp-ms,
+ * cls (largest session window), long-tasks, long-tasks-ms and tbt-ms (blocking time after FCP).
+ * Budgets are read from -Dpageperf.budget.&lt;page&gt;.&lt;metric&gt;, then -Dpageperf.budget.&lt;metric&gt;;
+ * "off" disables one. With CDP the Performance.getMetrics counters since the previous capture on the
+ * same browser (script, layout and style time, heap, DOM nodes) are reported as well, without budgets.
+ */
+public final class PagePerformance {
+
+    public enum Mode { OFF, REPORT, ENFORCE }
+
+    private static final Mode MODE = Mode.valueOf(Config.value("pageperf.mode", "off").toUpperCase(Locale.ROOT));
+    private static final Duration COLLECT_TIMEOUT = Duration.ofSeconds(5);
+
+    // Lab defaults in line with the "good" Web Vitals thresholds; load and DCL have no default budget
+    private static final Map<String, Double> DEFAULT_BUDGETS = new LinkedHashMap<>();
+    static {
+        DEFAULT_BUDGETS.put("ttfb-ms", 800.0);
+        DEFAULT_BUDGETS.put("fcp-ms", 1800.0);
+        DEFAULT_BUDGETS.put("lcp-ms", 2500.0);
+        DEFAULT_BUDGETS.put("cls", 0.1);
+        DEFAULT_BUDGETS.put("tbt-ms", 300.0);
+    }
+    private static final List<String> METRICS = List.of(
+        "ttfb-ms", "fcp-ms", "dcl-ms", "load-ms", "lcp-ms", "cls", "long-tasks", "long-tasks-ms", "tbt-ms");
+
+    // Counters from Performance.getMetrics that are gauges; the others are reported as deltas
+    private static final Set<String> CDP_GAUGES = Set.of("JSHeapUsedSize", "JSHeapTotalSize", "Nodes", "Documents", "Frames");
+    private static final List<String> CDP_METRICS = List.of("ScriptDuration", "TaskDuration", "LayoutDuration",
+        "RecalcStyleDuration", "LayoutCount", "RecalcStyleCount", "JSHeapUsedSize", "Nodes", "Documents");
+
+    // Long tasks are not kept in the performance timeline, so a buffered observer cannot see the ones
+    // that happened during load; this runs before any page script and keeps them on the window
+    private static final String LONG_TASK_BUFFER_SCRIPT =
+        "(function() {" +
+        "  if (typeof PerformanceObserver === 'undefined' ||" +
+        "      (PerformanceObserver.supportedEntryTypes || []).indexOf('longtask') < 0) { return; }" +
+        "  var tasks = window.__pagePerfLongTasks = [];" +
+        "  new PerformanceObserver(function(list) {" +
+        "    list.getEntries().forEach(function(e) { tasks.push([e.startTime, e.duration]); });" +
+        "  }).observe({type: 'longtask'});" +
+        "})();";
+
+    // Buffered observers deliver entries asynchronously; takeRecords() picks up what is still queued
+    private static final String COLLECT_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var supported = (typeof PerformanceObserver !== 'undefined' && PerformanceObserver.supportedEntryTypes) || [];" +
+        "var entries = {'largest-contentful-paint': [], 'layout-shift': [], 'longtask': []};" +
+        "var observers = Object.keys(entries).filter(function(type) { return supported.indexOf(type) >= 0; })" +
+        "  .map(function(type) {" +
+        "    var observer = new PerformanceObserver(function(list) {" +
+        "      Array.prototype.push.apply(entries[type], list.getEntries());" +
+        "    });" +
+        "    observer.observe({type: type, buffered: true});" +
+        "    return [type, observer];" +
+        "  });" +
+        "function round(value) { return value == null ? null : Math.round(value); }" +
+        "setTimeout(function() {" +
+        "  observers.forEach(function(pair) {" +
+        "    Array.prototype.push.apply(entries[pair[0]], pair[1].takeRecords());" +
+        "    pair[1].disconnect();" +
+        "  });" +
+        "  var result = {url: location.href};" +
+        "  var nav = performance.getEntriesByType('navigation')[0];" +
+        "  if (nav) {" +
+        "    result['ttfb-ms'] = round(nav.responseStart);" +
+        "    result['dcl-ms'] = nav.domContentLoadedEventEnd > 0 ? round(nav.domContentLoadedEventEnd) : null;" +
+        "    result['load-ms'] = nav.loadEventEnd > 0 ? round(nav.loadEventEnd) : null;" +
+        "    result.transferBytes = nav.transferSize;" +
+        "  }" +
+        "  var fcp = performance.getEntriesByName('first-contentful-paint')[0];" +
+        "  result['fcp-ms'] = fcp ? round(fcp.startTime) : null;" +
+        "  var lcp = entries['largest-contentful-paint'];" +
+        "  result['lcp-ms'] = lcp.length ? round(lcp[lcp.length - 1].startTime) : null;" +
+        "  if (supported.indexOf('layout-shift') >= 0) {" +
+        "    var cls = 0, current = 0, windowStart = 0, previous = 0;" +
+        "    entries['layout-shift'].filter(function(e) { return !e.hadRecentInput; })" +
+        "      .sort(function(a, b) { return a.startTime - b.startTime; })" +
+        "      .forEach(function(e) {" +
+        "        if (current > 0 && e.startTime - previous < 1000 && e.startTime - windowStart < 5000) {" +
+        "          current += e.value;" +
+        "        } else {" +
+        "          current = e.value; windowStart = e.startTime;" +
+        "        }" +
+        "        previous = e.startTime;" +
+        "        cls = Math.max(cls, current);" +
+        "      });" +
+        "    result.cls = Math.round(cls * 10000) / 10000;" +
+        "  }" +
+        "  var tasks = window.__pagePerfLongTasks ||" +
+        "    entries.longtask.map(function(e) { return [e.startTime, e.duration]; });" +
+        "  if (window.__pagePerfLongTasks || supported.indexOf('longtask') >= 0) {" +
+        "    var fcpTime = fcp ? fcp.startTime : 0, total = 0, blocking = 0;" +
+        "    tasks.forEach(function(t) {" +
+        "      total += t[1];" +
+        "      if (t[0] >= fcpTime) { blocking += Math.max(0, t[1] - 50); }" +
+        "    });" +
+        "    result['long-tasks'] = tasks.length;" +
+        "    result['long-tasks-ms'] = round(total);" +
+        "    result['tbt-ms'] = round(blocking);" +
+        "  }" +
+        "  done(result);" +
+        "}, 0);";
+
+    // Drivers with the long-task buffer installed, and the last Performance.getMetrics values per driver
+    private static final Set<WebDriver> PREPARED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Map<WebDriver, Map<String, Double>> LAST_CDP_METRICS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PagePerformance() {
+    }
+
+    public static boolean isEnabled() {
+        return MODE != Mode.OFF;
+    }
+
+    /**
+     * Install the long-task buffer and enable CDP performance counters before navigating (no-op when
+     * disabled or without CDP; the checks then fall back to what the page still buffers)
+     */
+    public static void prepare(WebDriver driver) {
+        if (!isEnabled() || PREPARED.contains(driver)) {
+            return;
+        }
+        try {
+            Cdp.connect(driver).ifPresent(devTools -> {
+                Cdp.send(devTools, "Page.addScriptToEvaluateOnNewDocument", Map.of("source", LONG_TASK_BUFFER_SCRIPT));
+                Cdp.send(devTools, "Performance.enable", Map.of());
+            });
+        } catch (WebDriverException e) {
+            // Metrics are best effort; long tasks during load just go unseen
+        }
+        PREPARED.add(driver);
+    }
+
+    /**
+     * Collect the metrics of the current page, add them to the test's perf report under "pagePerformance"
+     * and, in enforce mode, fail when a budget of this page is exceeded. Returns the collected entry
+     * (empty when disabled).
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> check(WebDriver driver, String page) {
+        if (!isEnabled()) {
+            return Map.of();
+        }
+        DomObserver.ensureScriptTimeout(driver, COLLECT_TIMEOUT);
+        Map<String, Object> collected = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("page", page);
+        entry.put("url", collected.get("url"));
+        entry.put("transferBytes", collected.get("transferBytes"));
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            metrics.put(metric, collected.get(metric));
+        }
+        entry.put("metrics", metrics);
+        cdpMetrics(driver).ifPresent(cdp -> entry.put("cdp", cdp));
+
+        Map<String, Object> budgets = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+        for (String metric : METRICS) {
+            Double budget = budget(page, metric);
+            if (budget == null) {
+                continue;
+            }
+            budgets.put(metric, budget);
+            Object value = metrics.get(metric);
+            if (value instanceof Number && ((Number) value).doubleValue() > budget) {
+                violations.add(String.format(Locale.ROOT, "%s %s > %s", metric, value, format(budget)));
+            }
+        }
+        entry.put("budgets", budgets);
+        entry.put("violations", violations);
+
+        PerfRecorder recorder = PerfRecorder.current();
+        if (recorder != null) {
+            recorder.add("pagePerformance", entry);
+        }
+        if (MODE == Mode.ENFORCE && !violations.isEmpty()) {
+            throw new AssertionError("Performance budget exceeded on " + page + " (" + collected.get("url") + "): "
+                + String.join(", ", violations));
+        }
+        return entry;
+    }
+
+    private static Double budget(String page, String metric) {
+        String value = Config.value("pageperf.budget." + page + "." + metric, Config.value("pageperf.budget." + metric, null));
+        if (value == null) {
+            return DEFAULT_BUDGETS.get(metric);
+        }
+        if ("off".equalsIgnoreCase(value)) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Budget '" + metric + "' of page '" + page + "' must be a number or off but was: " + value, e);
+        }
+    }
+
+    /**
+     * Performance.getMetrics of the window the DevTools session is attached to; other windows are skipped
+     */
+    @SuppressWarnings("unchecked")
+    private static Optional<Map<String, Object>> cdpMetrics(WebDriver driver) {
+        if (!PREPARED.contains(driver) || !driver.getWindowHandle().equals(Cdp.sessionWindow(driver))) {
+            return Optional.empty();
+        }
+        try {
+            Optional<DevTools> devTools = Cdp.connect(driver);
+            if (devTools.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<String, Double> current = new LinkedHashMap<>();
+            for (Map<String, Object> metric : (List<Map<String, Object>>) Cdp.send(devTools.get(), "Performance.getMetrics", Map.of()).get("metrics")) {
+                current.put(String.valueOf(metric.get("name")), ((Number) metric.get("value")).doubleValue());
+            }
+            Map<String, Double> previous = LAST_CDP_METRICS.put(driver, current);
+            Map<String, Object> report = new LinkedHashMap<>();
+            for (String name : CDP_METRICS) {
+                Double value = current.get(name);
+                if (value == null) {
+                    continue;
+                }
+                if (!CDP_GAUGES.contains(name) && previous != null) {
+                    value -= previous.getOrDefault(name, 0.0);
+                }
+                if (name.endsWith("Duration")) {
+                    // Durations come in seconds
+                    report.put(name + "Ms", Math.round(value * 1000));
+                } else {
+                    report.put(name, value.longValue());
+                }
+            }
+            return Optional.of(report);
+        } catch (WebDriverException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String format(double budget) {
+        return budget == Math.rint(budget) ? String.valueOf((long) budget) : String.valueOf(budget);
+    }
+}
@@ -0,0 +1,170 @@
+package core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collects timings of one test method on its own thread: named steps (with the WebDriver commands
+ * issued inside them), every Waits condition and the total command count.
+ * Started and written out by PerfReportListener; fed by Steps, Waits and the command-counting driver decorator.
+ */
+public class PerfRecorder {
+
+    private static final ThreadLocal<PerfRecorder> CURRENT = new ThreadLocal<>();
+
+    public record StepTiming(String name, long startOffsetMs, long durationMs, long commands, boolean passed) {
+    }
+
+    public record WaitRecord(String step, String condition, long elapsedMs, int polls, boolean satisfied) {
+    }
+
+    private final String testName;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong commands = new AtomicLong();
+    private final Map<String, AtomicLong> commandsByName = new ConcurrentHashMap<>();
+    private final List<StepTiming> steps = new ArrayList<>();
+    private final List<WaitRecord> waits = new ArrayList<>();
+    private final Deque<String> openSteps = new ArrayDeque<>();
+    private final Map<String, Object> extras = new LinkedHashMap<>();
+
+    private PerfRecorder(String testName) {
+        this.testName = testName;
+    }
+
+    public static PerfRecorder start(String testName) {
+        PerfRecorder recorder = new PerfRecorder(testName);
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Recorder of the test running on this thread, or null outside of a recorded test
+     */
+    public static PerfRecorder current() {
+        return CURRENT.get();
+    }
+
+    public static PerfRecorder stop() {
+        PerfRecorder recorder = CURRENT.get();
+        CURRENT.remove();
+        return recorder;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    static void countCommand(String name) {
+        PerfRecorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.commands.incrementAndGet();
+            recorder.commandsByName.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    static void recordWait(AdaptiveWait.WaitTiming timing) {
+        PerfRecorder recorder = CURRENT.get();
+        if (recorder != null) {
+            synchronized (recorder) {
+                recorder.waits.add(new WaitRecord(recorder.openSteps.peek(), timing.condition(),
+                    timing.elapsed().toMillis(), timing.polls(), timing.satisfied()));
+            }
+        }
+    }
+
+    /**
+     * Attach additional data (e.g. page metrics) to this test's report
+     */
+    public synchronized void put(String key, Object value) {
+        extras.put(key, value);
+    }
+
+    /**
+     * Append to a list of additional data in this test's report (e.g. one entry per visited page)
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void add(String key, Object value) {
+        ((List<Object>) extras.computeIfAbsent(key, k -> new ArrayList<>())).add(value);
+    }
+
+    <T> T step(String name, Supplier<T> action) {
+        String fullName;
+        synchronized (this) {
+            fullName = openSteps.isEmpty() ? name : openSteps.peek() + " > " + name;
+            openSteps.push(fullName);
+        }
+        long start = System.nanoTime();
+        long commandsBefore = commands.get();
+        boolean passed = false;
+        try {
+            T result = action.get();
+            passed = true;
+            return result;
+        } finally {
+            long end = System.nanoTime();
+            synchronized (this) {
+                openSteps.pop();
+                steps.add(new StepTiming(fullName, Duration.ofNanos(start - startNanos).toMillis(),
+                    Duration.ofNanos(end - start).toMillis(), commands.get() - commandsBefore, passed));
+            }
+        }
+    }
+
+    public synchronized List<StepTiming> getSteps() {
+        return new ArrayList<>(steps);
+    }
+
+    public synchronized List<WaitRecord> getWaits() {
+        return new ArrayList<>(waits);
+    }
+
+    public long getCommandCount() {
+        return commands.get();
+    }
+
+    public synchronized Map<String, Object> toReport(String status) {
+        Map<String, Object> commandBreakdown = new LinkedHashMap<>();
+        commandsByName.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().get(), a.getValue().get()))
+            .forEach(entry -> commandBreakdown.put(entry.getKey(), entry.getValue().get()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("test", testName);
+        report.put("status", status);
+        report.put("durationMs", Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        report.put("commands", commands.get());
+        report.put("commandsByName", commandBreakdown);
+        List<Map<String, Object>> stepRows = new ArrayList<>();
+        for (StepTiming step : steps) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", step.name());
+            row.put("startOffsetMs", step.startOffsetMs());
+            row.put("durationMs", step.durationMs());
+            row.put("commands", step.commands());
+            row.put("passed", step.passed());
+            stepRows.add(row);
+        }
+        List<Map<String, Object>> waitRows = new ArrayList<>();
+        for (WaitRecord wait : waits) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("step", wait.step());
+            row.put("condition", wait.condition());
+            row.put("elapsedMs", wait.elapsedMs());
+            row.put("polls", wait.polls());
+            row.put("satisfied", wait.satisfied());
+            waitRows.add(row);
+        }
+        report.put("steps", stepRows);
+        report.put("waits", waitRows);
+        report.putAll(extras);
+        return report;
+    }
+}
@@ -0,0 +1,88 @@
+package core;
+
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Records every test method with a PerfRecorder and writes its report next to the surefire reports:
+ * target/perf-reports/&lt;test&gt;.json (steps, waits, command counts) and &lt;test&gt;.csv (one row per step and wait).
+ */
+public class PerfReportListener implements IInvokedMethodListener {
+
+    private static final Path REPORT_DIR = Path.of(Config.value("perf.report-dir", "target/perf-reports"));
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            PerfRecorder.start(reportName(testResult));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        PerfRecorder recorder = PerfRecorder.stop();
+        if (recorder != null) {
+            write(reportName(testResult), recorder, status(testResult));
+        }
+    }
+
+    static void write(String name, PerfRecorder recorder, String status) {
+        StringBuilder csv = new StringBuilder("type,name,start_ms,duration_ms,commands_or_polls,ok\n");
+        for (PerfRecorder.StepTiming step : recorder.getSteps()) {
+            csv.append("step,").append(csvValue(step.name())).append(',').append(step.startOffsetMs()).append(',')
+                .append(step.durationMs()).append(',').append(step.commands()).append(',').append(step.passed()).append('\n');
+        }
+        for (PerfRecorder.WaitRecord wait : recorder.getWaits()) {
+            csv.append("wait,").append(csvValue(wait.condition())).append(",,")
+                .append(wait.elapsedMs()).append(',').append(wait.polls()).append(',').append(wait.satisfied()).append('\n');
+        }
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(REPORT_DIR.resolve(name + ".json"), new Json().toJson(recorder.toReport(status)));
+            Files.writeString(REPORT_DIR.resolve(name + ".csv"), csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write performance report for " + name, e);
+        }
+    }
+
+    private static String reportName(ITestResult result) {
+        String name = result.getMethod().getQualifiedName();
+        if (result.getParameters().length > 0) {
+            name += "-" + Arrays.stream(result.getParameters()).map(String::valueOf).collect(Collectors.joining("-"));
+        }
+        return safeName(name);
+    }
+
+    static String safeName(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]+", "_");
+    }
+
+    private static String status(ITestResult result) {
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                return "PASSED";
+            case ITestResult.FAILURE:
+                return "FAILED";
+            case ITestResult.SKIP:
+                return "SKIPPED";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    private static String csvValue(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
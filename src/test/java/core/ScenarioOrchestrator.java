@@ -0,0 +1,209 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs independent browser scenarios concurrently outside of TestNG's thread pool: one virtual thread per
+ * scenario on Java 21+, a fixed pool of platform threads otherwise. A semaphore caps how many scenarios
+ * hold a browser at once (-Dorchestrator.max-browsers, default the driver pool size), so pool leases never
+ * time out however many scenarios are queued.
+ * <p>
+ * When a scenario runs longer than -Dorchestrator.scenario-timeout-ms the whole run is cancelled: queued
+ * scenarios do not start, running ones are interrupted and their browsers quit, which aborts blocked
+ * WebDriver calls. Each scenario writes its own report to target/perf-reports.
+ */
+public class ScenarioOrchestrator {
+
+    public record Outcome(String name, Duration elapsed, Throwable failure) {
+        public boolean passed() {
+            return failure == null;
+        }
+    }
+
+    private final int maxBrowsers;
+    private final Duration scenarioTimeout;
+
+    public ScenarioOrchestrator(int maxBrowsers, Duration scenarioTimeout) {
+        this.maxBrowsers = maxBrowsers;
+        this.scenarioTimeout = scenarioTimeout;
+    }
+
+    public static ScenarioOrchestrator fromConfig() {
+        return new ScenarioOrchestrator(
+            Config.intValue("orchestrator.max-browsers", DriverFactory.getPoolSize()),
+            Config.millis("orchestrator.scenario-timeout-ms", 300_000));
+    }
+
+    /**
+     * Virtual threads are used when the running JVM has them (Java 21+), regardless of the compile target
+     */
+    public static boolean virtualThreadsAvailable() {
+        return virtualThreadFactory() != null;
+    }
+
+    /**
+     * Run every scenario on its own leased browser and return the outcomes in submission order
+     */
+    public List<Outcome> runAll(Map<String, Consumer<WebDriver>> scenarios) {
+        Run run = new Run();
+        ExecutorService executor = newExecutor();
+        Map<String, Future<Outcome>> futures = new LinkedHashMap<>();
+        scenarios.forEach((name, scenario) -> futures.put(name, executor.submit(() -> run.execute(name, scenario))));
+        executor.shutdown();
+
+        String timedOut = run.watch(futures);
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Map.Entry<String, Future<Outcome>> entry : futures.entrySet()) {
+            outcomes.add(outcome(entry.getKey(), entry.getValue(), timedOut));
+        }
+        try {
+            // Cancelled scenarios still release or discard their browsers
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return outcomes;
+    }
+
+    private Outcome outcome(String name, Future<Outcome> future, String timedOut) {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            return new Outcome(name, Duration.ZERO, new TimeoutException(
+                "Cancelled: scenario '" + timedOut + "' exceeded " + scenarioTimeout.toMillis() + " ms"));
+        } catch (ExecutionException e) {
+            return new Outcome(name, Duration.ZERO, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(name, Duration.ZERO, e);
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        ThreadFactory virtual = virtualThreadFactory();
+        if (virtual != null) {
+            try {
+                Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) perTask.invoke(null, virtual);
+            } catch (ReflectiveOperationException e) {
+                // Fall through to platform threads
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxBrowsers, task -> {
+            Thread thread = new Thread(task, "scenario-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Thread.ofVirtual().name("scenario-", 0).factory() through reflection, so the code still targets release 17
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = Class.forName("java.lang.Thread$Builder$OfVirtual")
+                .getMethod("name", String.class, long.class).invoke(builder, "scenario-", 0L);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    // State shared by the scenarios of one runAll call
+    private final class Run {
+        private final Semaphore browsers = new Semaphore(maxBrowsers, true);
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+        private final Map<String, WebDriver> drivers = new ConcurrentHashMap<>();
+
+        Outcome execute(String name, Consumer<WebDriver> scenario) throws InterruptedException {
+            browsers.acquire();
+            try {
+                if (cancelled.get()) {
+                    throw new CancellationException("Run cancelled before scenario '" + name + "' started");
+                }
+                long start = System.nanoTime();
+                startedAt.put(name, start);
+                PerfRecorder recorder = PerfRecorder.start(name);
+                Throwable failure = null;
+                try {
+                    WebDriver driver = DriverFactory.getDriver();
+                    drivers.put(name, driver);
+                    scenario.accept(driver);
+                } catch (RuntimeException | AssertionError e) {
+                    failure = e;
+                } finally {
+                    drivers.remove(name);
+                    startedAt.remove(name);
+                    PerfRecorder.stop();
+                    PerfReportListener.write(PerfReportListener.safeName(name), recorder,
+                        failure == null ? "PASSED" : "FAILED");
+                    if (cancelled.get()) {
+                        DriverFactory.discardDriver();
+                    } else {
+                        DriverFactory.releaseDriver();
+                    }
+                }
+                return new Outcome(name, Duration.ofNanos(System.nanoTime() - start), failure);
+            } finally {
+                browsers.release();
+            }
+        }
+
+        // Wait for all scenarios; returns the name of the scenario that timed out, or null
+        String watch(Map<String, Future<Outcome>> futures) {
+            long timeoutNanos = scenarioTimeout.toNanos();
+            while (futures.values().stream().anyMatch(future -> !future.isDone())) {
+                long now = System.nanoTime();
+                for (Map.Entry<String, Long> running : startedAt.entrySet()) {
+                    if (now - running.getValue() > timeoutNanos) {
+                        cancel(futures);
+                        return running.getKey();
+                    }
+                }
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel(futures);
+                    return "orchestrator (interrupted)";
+                }
+            }
+            return null;
+        }
+
+        private void cancel(Map<String, Future<Outcome>> futures) {
+            cancelled.set(true);
+            futures.values().forEach(future -> future.cancel(true));
+            for (WebDriver driver : drivers.values()) {
+                try {
+                    driver.quit();
+                } catch (WebDriverException e) {
+                    // Already gone
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Named, timed test steps. Steps can be nested; each one records its wall time and the
+ * WebDriver commands issued inside it into the current test's performance report.
+ * Outside of a recorded test the action simply runs.
+ */
+public final class Steps {
+
+    // Retries of a retryable step after a transient failure (-Dsteps.retries=0 disables them)
+    private static final int STEP_RETRIES = Config.intValue("steps.retries", 1);
+    // A timeout after an attempt this long is not retried: waiting that long again rarely helps
+    private static final Duration MAX_TIMED_OUT_ATTEMPT = Config.millis("steps.retry.max-timeout-ms", 20_000);
+
+    private Steps() {
+    }
+
+    public static void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T step(String name, Supplier<T> action) {
+        PerfRecorder recorder = PerfRecorder.current();
+        return recorder == null ? action.get() : recorder.step(name, action);
+    }
+
+    public static void retryable(String name, WebDriver driver, Runnable action) {
+        retryable(name, driver, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Step that is re-run on its own when it fails for a transient reason (see FailureClassifier) instead of
+     * failing the test: windows opened by the failed attempt are closed, the window and URL from the start
+     * of the step are restored (reloaded after network errors) and only this step runs again, at most
+     * -Dsteps.retries times. Page state such as applied filters survives unless the page is reloaded. A wait
+     * timeout is retried only when the failed attempt took at most -Dsteps.retry.max-timeout-ms, so long waits
+     * that expired are not doubled.
+     */
+    public static <T> T retryable(String name, WebDriver driver, Supplier<T> action) {
+        Checkpoint checkpoint = Checkpoint.capture(driver);
+        String recoveredFrom = null;
+        for (int attempt = 0; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                T result = step(attempt == 0 ? name : name + " (retry " + attempt + ")", action);
+                if (recoveredFrom != null) {
+                    FlakeQuarantine.stepRecovered(name, recoveredFrom);
+                }
+                return result;
+            } catch (RuntimeException | AssertionError e) {
+                FailureClassifier.Cause cause = FailureClassifier.classify(e);
+                if (attempt >= STEP_RETRIES || !cause.isStepRetryable()
+                    || (cause == FailureClassifier.Cause.WAIT_TIMEOUT
+                        && Duration.ofNanos(System.nanoTime() - start).compareTo(MAX_TIMED_OUT_ATTEMPT) > 0)) {
+                    throw e;
+                }
+                try {
+                    checkpoint.restore(driver, cause);
+                } catch (WebDriverException restoreFailure) {
+                    e.addSuppressed(restoreFailure);
+                    throw e;
+                }
+                recoveredFrom = FailureClassifier.describe(e);
+            }
+        }
+    }
+
+    private record Checkpoint(Set<String> windows, String window, String url) {
+
+        static Checkpoint capture(WebDriver driver) {
+            return new Checkpoint(driver.getWindowHandles(), driver.getWindowHandle(), driver.getCurrentUrl());
+        }
+
+        void restore(WebDriver driver, FailureClassifier.Cause cause) {
+            for (String handle : driver.getWindowHandles()) {
+                if (!windows.contains(handle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(window);
+            if (cause == FailureClassifier.Cause.NETWORK || !url.equals(driver.getCurrentUrl())) {
+                driver.get(url);
+            }
+        }
+    }
+}
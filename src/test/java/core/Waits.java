@@ -4,56 +4,124 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Select;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class Waits {
+    // Adaptive polling: first poll after 20 ms, doubling up to 500 ms
+    private static final Duration INITIAL_POLL = Config.millis("waits.poll.initial-ms", 20);
+    private static final Duration MAX_POLL = Config.millis("waits.poll.max-ms", 500);
+    // -Dwaits.mode=observer resolves DOM conditions with a MutationObserver in one async script call
+    private static final boolean OBSERVER_MODE = "observer".equalsIgnoreCase(Config.value("waits.mode", "poll"));
+    // Page stability: quiet period and requests considered long-lived (polling, streaming) and ignored
+    private static final Duration STABLE_QUIET = Config.millis("waits.stable.quiet-ms", 500);
+    private static final Duration STABLE_IGNORE_REQUESTS_OLDER = Config.millis("waits.stable.ignore-requests-older-ms", 5000);
+    // Clicks as one locate/scroll/hit-test/click script; a covered element is given up on after the grace period
+    private static final boolean BATCHED_CLICKS = Config.boolValue("waits.click.batched", true);
+    private static final Duration INTERCEPT_GRACE = Config.millis("waits.click.intercept-grace-ms", 1000);
+
+    /**
+     * Outcome of a click. element is the clicked (or covered) element when the page reported it;
+     * fallback tells that WebDriver clicked natively after the batched script could not.
+     */
+    public record ClickResult(Status status, String interceptedBy, WebElement element, boolean fallback, Duration elapsed) {
+
+        public enum Status { CLICKED, READY, INTERCEPTED, STALE, NOT_FOUND, NOT_INTERACTABLE, ERROR }
+
+        public boolean clicked() {
+            return status == Status.CLICKED;
+        }
+
+        ClickResult afterFallback(Duration took) {
+            return new ClickResult(Status.CLICKED, interceptedBy, element, true, elapsed.plus(took));
+        }
+    }
+
     private final WebDriver driver;
     private final Duration timeout;
+    private final AdaptiveWait wait;
+    // Longer waits (e.g. 60 s for slow listings) are created once and reused
+    private final Map<Duration, AdaptiveWait> extendedWaits = new ConcurrentHashMap<>();
+    private final List<AdaptiveWait.WaitTiming> timings = Collections.synchronizedList(new ArrayList<>());
+    private final DomObserver observer;
 
     public Waits(WebDriver driver, Duration timeout) {
         this.driver = driver;
         this.timeout = timeout;
+        this.wait = new AdaptiveWait(driver, timeout, INITIAL_POLL, MAX_POLL, this::record);
+        this.observer = new DomObserver(driver);
     }
 
-    public WebDriverWait getWait() {
-        return new WebDriverWait(driver, timeout);
+    public boolean isObserverMode() {
+        return OBSERVER_MODE;
+    }
+
+    public AdaptiveWait getWait() {
+        return wait;
+    }
+
+    /**
+     * Reusable wait with a different timeout than the default
+     */
+    public AdaptiveWait getWait(Duration customTimeout) {
+        if (customTimeout.equals(timeout)) {
+            return wait;
+        }
+        return extendedWaits.computeIfAbsent(customTimeout, wait::withTimeout);
+    }
+
+    /**
+     * How long each condition waited so far, in call order
+     */
+    public List<AdaptiveWait.WaitTiming> getTimings() {
+        synchronized (timings) {
+            return new ArrayList<>(timings);
+        }
     }
 
     // Existing methods for backward compatibility
     public WebElement visible(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+        observe("visible " + locator, locator, t -> observer.awaitVisible(locator, t), timeout);
+        return wait.until("visible " + locator, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     public List<WebElement> allVisible(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        return wait.until("allVisible " + locator, ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
     }
 
     public WebElement present(By locator) {
-        return getWait().until(ExpectedConditions.presenceOfElementLocated(locator));
+        return wait.until("present " + locator, ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     public WebElement clickable(By locator) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(locator));
+        return wait.until("clickable " + locator, ExpectedConditions.elementToBeClickable(locator));
     }
 
     public WebElement clickable(WebElement element) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(element));
+        return wait.until("clickable element", ExpectedConditions.elementToBeClickable(element));
     }
 
     public boolean urlContains(String fraction) {
-        return getWait().until(ExpectedConditions.urlContains(fraction));
+        return wait.until("urlContains " + fraction, ExpectedConditions.urlContains(fraction));
     }
 
     public <T> T until(ExpectedCondition<T> condition) {
-        return getWait().until(condition);
+        return wait.until(condition);
     }
 
     // New robust synchronization methods
@@ -62,24 +130,40 @@ public class Waits {
      * Wait for element to become visible
      */
     public WebElement waitForVisibility(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+        observe("waitForVisibility " + locator, locator, t -> observer.awaitVisible(locator, t), timeout);
+        return wait.until("waitForVisibility " + locator, ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     /**
      * Wait for element to become clickable
      */
     public WebElement waitForClickability(By locator) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(locator));
+        return wait.until("waitForClickability " + locator, ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    /**
+     * Wait until the element is clickable, scroll it to the center and click it, in one script round trip
+     * (-Dwaits.click.batched=false restores separate wait, scroll and click commands). When the element stays
+     * covered or the script cannot run, WebDriver clicks natively, which throws ElementClickInterceptedException
+     * if it is still covered. Throws TimeoutException when nothing clickable matches within the timeout.
+     */
+    public ClickResult click(By locator) {
+        return click(null, locator);
+    }
+
+    /**
+     * Same as click(By) for an element that was already found; throws StaleElementReferenceException when the
+     * element was detached, so the caller can look it up again
+     */
+    public ClickResult click(WebElement element) {
+        return click(element, null);
     }
 
     /**
      * Scroll element into view and click
      */
     public void clickWithScroll(By locator) {
-        WebElement element = waitForClickability(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-        getWait().until(ExpectedConditions.elementToBeClickable(element));
-        element.click();
+        click(locator);
     }
 
     /**
@@ -89,9 +173,7 @@ public class Waits {
         int attempts = 0;
         while (attempts < retryCount) {
             try {
-                WebElement element = waitForClickability(locator);
-                scrollIntoView(element);
-                element.click();
+                click(locator);
                 return;
             } catch (StaleElementReferenceException e) {
                 attempts++;
@@ -111,13 +193,24 @@ public class Waits {
      * Wait for element to become invisible (useful for overlays/loaders)
      */
     public boolean waitForInvisibility(By locator) {
-        return getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return wait.until("waitForInvisibility " + locator, ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
      * Click using JavaScript executor as fallback
      */
     public void jsClick(By locator) {
+        if (BATCHED_CLICKS && JsLocators.isSupported(locator)) {
+            ClickResult result = batchedClick("jsClick " + locator, null, locator, BatchedClick.Mode.FORCE);
+            if (result.clicked()) {
+                return;
+            }
+            if (result.status() == ClickResult.Status.NOT_FOUND || result.status() == ClickResult.Status.NOT_INTERACTABLE) {
+                // The script already waited the full timeout; polling again would only double it
+                throw new TimeoutException(String.format("jsClick %s: %s within %d ms", locator, result.status(), timeout.toMillis()));
+            }
+            // STALE (re-rendered while clicking) or ERROR: locate it again and click it the plain way
+        }
         WebElement element = waitForVisibility(locator);
         scrollIntoView(element);
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
@@ -127,8 +220,16 @@ public class Waits {
      * Click using Selenium Actions API
      */
     public void actionClick(By locator) {
-        WebElement element = waitForClickability(locator);
-        scrollIntoView(element);
+        WebElement element = null;
+        if (BATCHED_CLICKS && JsLocators.isSupported(locator)) {
+            // Wait, scroll and hit-test in one script; the click itself goes through the Actions API
+            ClickResult result = batchedClick("actionClick " + locator, null, locator, BatchedClick.Mode.PREPARE);
+            element = result.status() == ClickResult.Status.READY ? result.element() : null;
+        }
+        if (element == null) {
+            element = waitForClickability(locator);
+            scrollIntoView(element);
+        }
         Actions actions = new Actions(driver);
         actions.moveToElement(element).click().perform();
     }
@@ -137,8 +238,154 @@ public class Waits {
      * Wait for element count to be more than specified count
      */
     public boolean waitForElementCountMoreThan(By locator, int count) {
-        return getWait().until((ExpectedCondition<Boolean>) webDriver -> 
-            webDriver.findElements(locator).size() > count);
+        if (observe("waitForElementCountMoreThan " + count + " " + locator, locator,
+                t -> observer.awaitCountMoreThan(locator, count, t), timeout)) {
+            return true;
+        }
+        return wait.until("waitForElementCountMoreThan " + count + " " + locator,
+            webDriver -> webDriver.findElements(locator).size() > count);
+    }
+
+    /**
+     * Wait until a visible element matching the locator renders more than minLength characters of text
+     */
+    public void waitForVisibleText(By locator, int minLength, Duration customTimeout) {
+        String label = "waitForVisibleText " + locator;
+        if (observe(label, locator, t -> observer.awaitVisibleWithText(locator, minLength, t), customTimeout)) {
+            return;
+        }
+        getWait(customTimeout).until(label, webDriver -> {
+            try {
+                for (WebElement element : webDriver.findElements(locator)) {
+                    if (element.isDisplayed() && element.getText().trim().length() > minLength) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (StaleElementReferenceException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Wait until a select element offers an option with exactly the given visible text
+     */
+    public void waitForOptionText(By selectLocator, String optionText, Duration customTimeout) {
+        String label = "waitForOptionText '" + optionText + "' " + selectLocator;
+        if (observe(label, selectLocator, t -> observer.awaitOptionText(selectLocator, optionText, t), customTimeout)) {
+            return;
+        }
+        getWait(customTimeout).until(label, webDriver -> {
+            try {
+                for (WebElement option : new Select(webDriver.findElement(selectLocator)).getOptions()) {
+                    if (option.getText().trim().equals(optionText)) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (StaleElementReferenceException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Wait until the page has settled instead of sleeping a fixed time: document loaded, no DOM mutations,
+     * resource loads or scroll movement for the quiet period and, when CDP tracks the current window,
+     * no requests in flight. Returns how long stabilization took (also recorded in the wait timings).
+     */
+    public Duration waitForPageStable() {
+        return waitForPageStable(STABLE_QUIET, timeout);
+    }
+
+    public Duration waitForPageStable(Duration quietPeriod, Duration customTimeout) {
+        String label = "waitForPageStable " + quietPeriod.toMillis() + "ms";
+        long start = System.nanoTime();
+        long deadline = start + customTimeout.toNanos();
+        try {
+            observer.awaitQuiet(quietPeriod, customTimeout);
+
+            Optional<NetworkActivity> network = NetworkActivity.of(driver);
+            if (network.isPresent() && network.get().covers(driver.getWindowHandle())) {
+                // Checked locally from CDP events, no WebDriver round trips
+                while (!network.get().isIdle(quietPeriod, STABLE_IGNORE_REQUESTS_OLDER)) {
+                    if (System.nanoTime() > deadline) {
+                        throw new TimeoutException("Network did not become idle within " + customTimeout.toMillis() + " ms");
+                    }
+                    Thread.sleep(INITIAL_POLL.toMillis());
+                }
+            }
+        } catch (TimeoutException e) {
+            record(new AdaptiveWait.WaitTiming(label, Duration.ofNanos(System.nanoTime() - start), 1, false));
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for the page to settle", e);
+        }
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+        record(new AdaptiveWait.WaitTiming(label, took, 1, true));
+        return took;
+    }
+
+    /**
+     * Run an observer-based wait when observer mode is on and the locator can be evaluated in the page.
+     * Returns false when the caller should poll instead (mode off, unsupported locator, page navigated
+     * while the script was running). A condition that is not met in time still throws TimeoutException.
+     */
+    private boolean observe(String label, By locator, Consumer<Duration> await, Duration waitTimeout) {
+        if (!OBSERVER_MODE || !JsLocators.isSupported(locator)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            await.accept(waitTimeout);
+            record(new AdaptiveWait.WaitTiming(label, Duration.ofNanos(System.nanoTime() - start), 1, true));
+            return true;
+        } catch (TimeoutException e) {
+            record(new AdaptiveWait.WaitTiming(label, Duration.ofNanos(System.nanoTime() - start), 1, false));
+            throw e;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private ClickResult click(WebElement element, By locator) {
+        String label = "click " + (locator == null ? "element" : locator);
+        if (!BATCHED_CLICKS || (locator != null && !JsLocators.isSupported(locator))) {
+            long start = System.nanoTime();
+            (element == null ? waitForClickability(locator) : clickable(element)).click();
+            // A plain WebDriver click by choice, not a fallback from the batched script
+            return new ClickResult(ClickResult.Status.CLICKED, null, element, false, Duration.ofNanos(System.nanoTime() - start));
+        }
+        ClickResult result = batchedClick(label, element, locator, BatchedClick.Mode.CLICK);
+        switch (result.status()) {
+            case CLICKED:
+                return result;
+            case STALE:
+                throw new StaleElementReferenceException("Element was detached before it could be clicked (" + label + ")");
+            case NOT_FOUND:
+            case NOT_INTERACTABLE:
+                throw new TimeoutException(String.format("%s: %s within %d ms", label, result.status(), timeout.toMillis()));
+            default:
+                // Covered for the whole grace period, or the script could not run: let WebDriver click natively
+                long start = System.nanoTime();
+                WebElement target = result.element() != null ? result.element() : element;
+                (target == null ? waitForClickability(locator) : clickable(target)).click();
+                return result.afterFallback(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private ClickResult batchedClick(String label, WebElement element, By locator, BatchedClick.Mode mode) {
+        ClickResult result = BatchedClick.run(driver, element, locator, mode, timeout, INTERCEPT_GRACE);
+        boolean done = result.status() == ClickResult.Status.CLICKED || result.status() == ClickResult.Status.READY;
+        record(new AdaptiveWait.WaitTiming(label, result.elapsed(), 1, done));
+        return result;
+    }
+
+    private void record(AdaptiveWait.WaitTiming timing) {
+        timings.add(timing);
+        PerfRecorder.recordWait(timing);
     }
 
     /**
@@ -1,30 +1,60 @@
 package pages;
 
+import core.ConsentHandler;
+import core.LocatorRegistry;
+import core.PagePerformance;
 import core.Waits;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Map;
+
 public class CareersQaPage {
-    public static final String QA_PAGE_URL = "https://insiderone.com/careers/quality-assurance/";
+    public static final String QA_PAGE_PATH = "/careers/quality-assurance/";
 
     private final WebDriver driver;
 
-    private final By seeAllQaJobsBtn = By.xpath("//a[normalize-space()='See all QA jobs'] | //button[normalize-space()='See all QA jobs']");
+    private final By seeAllQaJobsBtn = LocatorRegistry.locator("CareersQa.seeAllQaJobs",
+        By.xpath("//a[normalize-space()='See all QA jobs'] | //button[normalize-space()='See all QA jobs']"),
+        By.xpath("//a[normalize-space()='See all QA jobs']"),
+        By.xpath("//button[normalize-space()='See all QA jobs']"));
 
     public CareersQaPage(WebDriver driver) {
         this.driver = driver;
     }
 
     public void open() {
-        driver.get(QA_PAGE_URL);
+        open(HomePage.baseUrl());
+    }
+
+    /**
+     * Open the QA careers page of the given site, e.g. a FixtureServer's base URL
+     */
+    public void open(String baseUrl) {
+        String url = baseUrl + QA_PAGE_PATH;
+        ConsentHandler.prepare(driver, url);
+        PagePerformance.prepare(driver);
+        driver.get(url);
     }
 
     public boolean isSeeAllJobsVisible(Waits waits) {
         return waits.visible(seeAllQaJobsBtn).isDisplayed();
     }
 
+    /**
+     * Load metrics of this page against its budgets (-Dpageperf.budget.careersQa.*); no-op unless -Dpageperf.mode is set
+     */
+    public Map<String, Object> checkPerformance() {
+        return PagePerformance.check(driver, "careersQa");
+    }
+
+    /**
+     * Click "See all QA jobs" and return once the browser is on the job listing. The batched click does not
+     * wait for the navigation it starts, so without this the next step could still see the careers page.
+     */
     public void clickSeeAllJobs(Waits waits) {
-        waits.clickable(seeAllQaJobsBtn).click();
+        waits.click(seeAllQaJobsBtn);
+        waits.urlContains(JobsListingPage.LISTING_PATH);
     }
 
     // Example usage of robust waiting methods
@@ -34,5 +64,6 @@ public class CareersQaPage {
         
         // Click with scroll and retry for dynamic rendering issues
         waits.clickWithRetry(seeAllQaJobsBtn, 3);
+        waits.urlContains(JobsListingPage.LISTING_PATH);
     }
 }
\ No newline at end of file
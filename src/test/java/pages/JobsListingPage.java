@@ -1,41 +1,136 @@
 package pages;
 
+import core.Config;
+import core.ConsentHandler;
+import core.DomObserver;
+import core.JsLocators;
+import core.LocatorRegistry;
+import core.PagePerformance;
 import core.Waits;
 import org.openqa.selenium.By;
-import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JobsListingPage {
+    public static final String LISTING_PATH = "/careers/open-positions/";
+
     private final WebDriver driver;
+    // Card count at which loading more cards brought nothing; -1 until then or after the list was refreshed
+    private int loadedTotal = -1;
 
     // Native <select> element locator for Location filter
     private final By locationSelect = By.xpath("//select[@id='filter-by-location']");
 
-    private final By departmentFilter = By.xpath("//select[@id='filter-by-department' or @name='filter-by-department'] | //label[normalize-space()='Department']/following::select[1]");
-    private final By jobListContainer = By.xpath("//div[contains(@class,'positions') or contains(@class,'jobs-list') or contains(@class,'position-list') or contains(@class,'careers') or contains(@class,'jobs')]");
-    private final By jobCards = By.xpath("//div[contains(@class,'position') or contains(@class,'job') or contains(@class,'list-item') or contains(@class,'role')]");
-    
-    // Cookie banner locators (same as HomePage)
-    private final By cookieBannerContainer = By.xpath(
-        "//div[contains(@class, 'cookie') or contains(@class, 'consent') or contains(@id, 'cookie') or contains(@id, 'consent')] | " +
-        "//div[@role='dialog' and (contains(., 'cookie') or contains(., 'Cookie'))] | " +
-        "//*[contains(@class, 'cookie-banner') or contains(@class, 'cookie-consent') or contains(@id, 'cookie-banner')] | " +
-        "//div[contains(@class, 'cli-bar-container')]"
-    );
-    private final By acceptAllButton = By.xpath(
-        "//a[@id='wt-cli-accept-all-btn'] | " +
-        "//button[@id='wt-cli-accept-all-btn'] | " +
-        "//button[normalize-space()='Accept All' or contains(., 'Accept All')] | " +
-        "//a[normalize-space()='Accept All' or contains(., 'Accept All')] | " +
-        "//button[contains(@class, 'accept') and (contains(., 'All') or contains(., 'all'))]"
-    );
+    // Unions with their alternatives (CSS first); LocatorRegistry narrows them to the branches that match
+    private final By departmentFilter = LocatorRegistry.locator("JobsListing.departmentFilter",
+        By.xpath("//select[@id='filter-by-department' or @name='filter-by-department'] | //label[normalize-space()='Department']/following::select[1]"),
+        By.cssSelector("select#filter-by-department"),
+        By.cssSelector("select[name='filter-by-department']"),
+        By.xpath("//label[normalize-space()='Department']/following::select[1]"));
+    private final By jobListContainer = LocatorRegistry.locator("JobsListing.jobListContainer",
+        By.xpath("//div[contains(@class,'positions') or contains(@class,'jobs-list') or contains(@class,'position-list') or contains(@class,'careers') or contains(@class,'jobs')]"),
+        By.cssSelector("div[class*='positions']"),
+        By.cssSelector("div[class*='jobs-list']"),
+        By.cssSelector("div[class*='position-list']"),
+        By.cssSelector("div[class*='careers']"),
+        By.cssSelector("div[class*='jobs']"));
+    // Only the cards themselves: class substrings such as 'position' also match the list, its count line and
+    // the wrappers and location lines inside each card
+    private final By jobCards = LocatorRegistry.locator("JobsListing.jobCards",
+        By.xpath("//div[contains(concat(' ', normalize-space(@class), ' '), ' position-list-item ')]"
+            + " | //div[@id='jobs-list']/div[.//a[contains(.,'View Role')] or .//button[contains(.,'View Role')]]"),
+        By.cssSelector("div.position-list-item"),
+        By.xpath("//div[@id='jobs-list']/div[.//a[contains(.,'View Role')] or .//button[contains(.,'View Role')]]"));
+
+    // Reads title/department/location/View Role href of every visible card in one script execution.
+    // Mirrors the JobCard locator fallbacks: class-based element, then heading, then container text.
+    private static final String CARD_EXTRACTOR_FUNCTION =
+        "function text(el) { return el ? (el.innerText || '').trim() : ''; }" +
+        "function extractCard(card) {" +
+        "  var title = text(card.querySelector(\"*[class*='title'], h2, h3, h4\"));" +
+        "  if (!title) { title = text(card.querySelector('h1, h2, h3, h4, h5, h6')); }" +
+        "  if (!title) {" +
+        "    var lines = text(card).split(/\\r?\\n/);" +
+        "    for (var i = 0; i < lines.length; i++) {" +
+        "      var line = lines[i].trim();" +
+        "      if (line && line.toLowerCase() !== 'view role') { title = line; break; }" +
+        "    }" +
+        "  }" +
+        "  var dept = card.querySelector(\"*[class*='department'], *[class*='dept']\");" +
+        "  var loc = card.querySelector(\"*[class*='location'], *[class*='loc']\");" +
+        "  var viewRole = null;" +
+        "  var links = card.querySelectorAll('a, button');" +
+        "  for (var j = 0; j < links.length; j++) {" +
+        "    if ((links[j].innerText || links[j].textContent || '').indexOf('View Role') >= 0) {" +
+        "      if (!viewRole || (links[j].tagName === 'A' && /\\bbtn\\b/.test(links[j].className))) { viewRole = links[j]; }" +
+        "    }" +
+        "  }" +
+        "  return {element: card, title: title, department: dept ? text(dept) : text(card)," +
+        "    location: loc ? text(loc) : text(card), href: viewRole && viewRole.href ? viewRole.href : null};" +
+        "}";
+
+    private static final String EXTRACT_ALL_CARDS_SCRIPT = JsLocators.FIND_ALL_FUNCTION + CARD_EXTRACTOR_FUNCTION +
+        "return findAll(arguments[0], arguments[1]).filter(isVisible).map(extractCard);";
+
+    // One batch of visible cards starting at offset. When the offset is past the rendered cards, scrolls to the
+    // end of the list and clicks a "load/show/see more" control inside the job list container (never in a header,
+    // footer or nav), then waits (at most loadMoreMs) for more cards. Replies at once when neither a control nor
+    // the scroll can bring more.
+    private static final String EXTRACT_BATCH_SCRIPT = JsLocators.FIND_ALL_FUNCTION + CARD_EXTRACTOR_FUNCTION +
+        "var using = arguments[0], value = arguments[1], offset = arguments[2], limit = arguments[3];" +
+        "var loadMoreMs = arguments[4], containerUsing = arguments[5], containerValue = arguments[6];" +
+        "var done = arguments[arguments.length - 1];" +
+        "function visibleCards() { return findAll(using, value).filter(isVisible); }" +
+        "function reply(cards) { done({cards: cards.slice(offset, offset + limit).map(extractCard), total: cards.length}); }" +
+        "function loadMoreControl(last) {" +
+        "  var scopes = findAll(containerUsing, containerValue).filter(function(c) { return c !== last && c.contains(last); });" +
+        "  scopes.sort(function(a, b) { return a.contains(b) ? 1 : -1; });" +
+        "  for (var s = 0; s < scopes.length; s++) {" +
+        "    var controls = scopes[s].querySelectorAll('button, a');" +
+        "    for (var i = 0; i < controls.length; i++) {" +
+        "      if (isVisible(controls[i]) && !controls[i].closest('header, footer, nav')" +
+        "          && /^\\s*(load|show|see) more\\b/i.test(controls[i].innerText || '')) {" +
+        "        return controls[i];" +
+        "      }" +
+        "    }" +
+        "  }" +
+        "  return null;" +
+        "}" +
+        "var cards = visibleCards();" +
+        "if (cards.length > offset || cards.length === 0 || loadMoreMs <= 0) { reply(cards); return; }" +
+        "var scrolledFrom = window.scrollY;" +
+        "cards[cards.length - 1].scrollIntoView({block: 'end'});" +
+        "var control = loadMoreControl(cards[cards.length - 1]);" +
+        "if (control) { control.click(); }" +
+        "else if (window.scrollY === scrolledFrom) { reply(cards); return; }" +
+        "var finished = false, timer = null;" +
+        "var observer = new MutationObserver(function() { if (!finished && visibleCards().length > offset) { finish(); } });" +
+        "function finish() { finished = true; observer.disconnect(); clearTimeout(timer); reply(visibleCards()); }" +
+        "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});" +
+        "timer = setTimeout(finish, loadMoreMs);";
+
+    // Cards per script call and how long to wait for more cards after scrolling / "load more"
+    private static final int BATCH_SIZE = Config.intValue("listing.batch-size", 20);
+    private static final Duration LOAD_MORE_TIMEOUT = Config.millis("listing.load-more-ms", 2000);
+
+    private static final String EXTRACT_CARD_SCRIPT = CARD_EXTRACTOR_FUNCTION +
+        "var data = extractCard(arguments[0]); delete data.element; return data;";
 
     public JobsListingPage(WebDriver driver) {
         this.driver = driver;
@@ -43,111 +138,12 @@ public class JobsListingPage {
 
     // Accept cookies if banner is present (can appear on this page)
     public void acceptCookiesIfPresent(Waits waits) {
-        try {
-            // Use extended wait for banner to appear (cookie banners can take time to load)
-            org.openqa.selenium.support.ui.WebDriverWait extendedWait = new org.openqa.selenium.support.ui.WebDriverWait(
-                driver, java.time.Duration.ofSeconds(20));
-            
-            // Small delay to let banner appear
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            // Wait for cookie banner to appear and be visible - try multiple locators
-            WebElement banner = null;
-            try {
-                // First try: cli-bar-container (most specific)
-                banner = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//div[contains(@class, 'cli-bar-container')]")));
-                extendedWait.until(ExpectedConditions.visibilityOf(banner));
-            } catch (org.openqa.selenium.TimeoutException e) {
-                try {
-                    // Second try: generic cookie banner
-                    banner = extendedWait.until(ExpectedConditions.presenceOfElementLocated(cookieBannerContainer));
-                    extendedWait.until(ExpectedConditions.visibilityOf(banner));
-                } catch (org.openqa.selenium.TimeoutException ex) {
-                    return; // No banner found - continue silently
-                }
-            }
-            
-            if (!banner.isDisplayed()) {
-                return; // Banner not visible
-            }
-            
-            // Wait for Accept All button - try ID first (most reliable)
-            WebElement acceptButton = null;
-            try {
-                // First try: find button by ID (most reliable)
-                acceptButton = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//a[@id='wt-cli-accept-all-btn'] | //button[@id='wt-cli-accept-all-btn']")));
-                extendedWait.until(ExpectedConditions.visibilityOf(acceptButton));
-                extendedWait.until(ExpectedConditions.elementToBeClickable(acceptButton));
-            } catch (org.openqa.selenium.TimeoutException e) {
-                try {
-                    // Second try: find button inside banner
-                    acceptButton = banner.findElement(By.xpath(".//a[@id='wt-cli-accept-all-btn'] | .//button[@id='wt-cli-accept-all-btn']"));
-                    extendedWait.until(ExpectedConditions.visibilityOf(acceptButton));
-                    extendedWait.until(ExpectedConditions.elementToBeClickable(acceptButton));
-                } catch (org.openqa.selenium.NoSuchElementException | org.openqa.selenium.TimeoutException ex) {
-                    try {
-                        // Third try: find button globally by text
-                        acceptButton = extendedWait.until(ExpectedConditions.elementToBeClickable(acceptAllButton));
-                    } catch (org.openqa.selenium.TimeoutException ex2) {
-                        return; // Button not found - continue silently
-                    }
-                }
-            }
-            
-            // Click with retry handling - try multiple methods
-            boolean clicked = false;
-            int retries = 3;
-            for (int i = 0; i < retries && !clicked; i++) {
-                try {
-                    // Method 1: JavaScript click (most reliable for cookie banners)
-                    ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", acceptButton);
-                    clicked = true;
-                } catch (Exception e) {
-                    try {
-                        // Method 2: Normal click
-                        acceptButton.click();
-                        clicked = true;
-                    } catch (org.openqa.selenium.ElementClickInterceptedException ex) {
-                        try {
-                            // Method 3: Actions click
-                            org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
-                            actions.moveToElement(acceptButton).click().perform();
-                            clicked = true;
-                        } catch (Exception ex2) {
-                            if (i < retries - 1) {
-                                try {
-                                    Thread.sleep(500);
-                                } catch (InterruptedException ie) {
-                                    Thread.currentThread().interrupt();
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            
-            // Wait for banner to disappear if click was successful
-            if (clicked) {
-                try {
-                    extendedWait.until(ExpectedConditions.invisibilityOf(banner));
-                } catch (org.openqa.selenium.TimeoutException e) {
-                    // Banner might still be visible, but continue
-                }
-            }
-        } catch (org.openqa.selenium.NoSuchElementException | org.openqa.selenium.TimeoutException e) {
-            // Banner not present or already dismissed - continue silently
-        } catch (Exception e) {
-            // Any other exception - continue silently (banner might not be present)
-        }
+        // Single script call; returns immediately when consent was already given on this origin
+        ConsentHandler.acceptIfPresent(driver);
     }
 
     public void applyLocationFilter(Waits waits, String locationText) {
+        loadedTotal = -1;
         waitForPageReady(waits);
         selectLocation(waits, locationText);
     }
@@ -164,8 +160,7 @@ public class JobsListingPage {
         waits.waitForInvisibility(By.cssSelector("[class*='loading'], [class*='spinner'], [class*='overlay']"));
         
         // Wait for location select element to be present and visible with extended timeout
-        org.openqa.selenium.support.ui.WebDriverWait extendedWait = new org.openqa.selenium.support.ui.WebDriverWait(
-            driver, java.time.Duration.ofSeconds(60));
+        org.openqa.selenium.support.ui.Wait<WebDriver> extendedWait = waits.getWait(java.time.Duration.ofSeconds(60));
         extendedWait.until(ExpectedConditions.presenceOfElementLocated(locationSelect));
         extendedWait.until(ExpectedConditions.visibilityOfElementLocated(locationSelect));
         extendedWait.until(ExpectedConditions.elementToBeClickable(locationSelect));
@@ -186,28 +181,7 @@ public class JobsListingPage {
         waits.getWait().until(ExpectedConditions.elementToBeClickable(selectElement));
         
         // Wait for options to load by checking if the desired option exists
-        org.openqa.selenium.support.ui.WebDriverWait extendedWait = new org.openqa.selenium.support.ui.WebDriverWait(
-            driver, java.time.Duration.ofSeconds(60));
-        extendedWait.until((org.openqa.selenium.support.ui.ExpectedCondition<Boolean>) webDriver -> {
-            try {
-                org.openqa.selenium.WebElement freshSelect = webDriver.findElement(locationSelect);
-                org.openqa.selenium.support.ui.Select tempSelect = new org.openqa.selenium.support.ui.Select(freshSelect);
-                java.util.List<org.openqa.selenium.WebElement> options = tempSelect.getOptions();
-                if (options == null || options.isEmpty()) {
-                    return false;
-                }
-                // Check if the desired option exists
-                for (org.openqa.selenium.WebElement option : options) {
-                    String optionText = option.getText().trim();
-                    if (optionText.equals(locationText)) {
-                        return true;
-                    }
-                }
-                return false;
-            } catch (Exception e) {
-                return false;
-            }
-        });
+        waits.waitForOptionText(locationSelect, locationText, java.time.Duration.ofSeconds(60));
         
         // Use Selenium Select class to select by visible text
         WebElement freshSelectElement = driver.findElement(locationSelect);
@@ -222,6 +196,7 @@ public class JobsListingPage {
     }
 
     public void applyDepartmentFilter(Waits waits, String departmentText) {
+        loadedTotal = -1;
         WebElement filter = waits.present(departmentFilter);
         applyFilterValue(waits, filter, departmentText);
     }
@@ -235,139 +210,199 @@ public class JobsListingPage {
             // Custom dropdowns: click to open and choose desired option
             waits.clickable(filter).click();
             // Wait for dropdown to open and find the option
-            By option = By.xpath(
-                "//div[contains(@class,'option') or contains(@class,'menu') or contains(@class,'dropdown')]" +
-                "//*[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')] | " +
-                "//li[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')] | " +
-                "//button[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')] | " +
-                "//a[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')]"
-            );
+            String menuOption = "//div[contains(@class,'option') or contains(@class,'menu') or contains(@class,'dropdown')]" +
+                "//*[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')]";
+            String listOption = "//li[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')]";
+            String buttonOption = "//button[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')]";
+            String linkOption = "//a[normalize-space()='" + valueText + "' or contains(text(),'" + valueText + "')]";
+            By option = LocatorRegistry.locator("JobsListing.filterOption[" + valueText + "]",
+                By.xpath(String.join(" | ", menuOption, listOption, buttonOption, linkOption)),
+                By.xpath(menuOption), By.xpath(listOption), By.xpath(buttonOption), By.xpath(linkOption));
             WebElement optEl = waits.clickable(option);
             optEl.click();
         }
     }
 
     public void waitForListRefresh(Waits waits) {
+        loadedTotal = -1;
         // Wait for job list container to be visible
-        waits.until(ExpectedConditions.visibilityOfElementLocated(jobListContainer));
+        waits.visible(jobListContainer);
         
-        // Extended wait for job cards to load (60 seconds)
-        org.openqa.selenium.support.ui.WebDriverWait extendedWait = new org.openqa.selenium.support.ui.WebDriverWait(
-            driver, java.time.Duration.ofSeconds(60));
-        
-        // Wait for at least one job card to be present
-        extendedWait.until(ExpectedConditions.numberOfElementsToBeMoreThan(jobCards, 0));
-        
-        // Wait for at least one job card to be visible and fully rendered with text content
-        extendedWait.until((org.openqa.selenium.support.ui.ExpectedCondition<Boolean>) webDriver -> {
-            try {
-                java.util.List<org.openqa.selenium.WebElement> cards = webDriver.findElements(jobCards);
-                if (cards.isEmpty()) {
-                    return false;
-                }
-                // Check if at least one card has visible text (indicating it's fully loaded)
-                for (org.openqa.selenium.WebElement card : cards) {
-                    if (card.isDisplayed()) {
-                        String cardText = card.getText().trim();
-                        if (!cardText.isEmpty() && cardText.length() > 10) { // Ensure meaningful content
-                            return true;
-                        }
-                    }
-                }
-                return false;
-            } catch (Exception e) {
-                return false;
-            }
-        });
+        // Wait for at least one job card to be visible and fully rendered with text content (up to 60 seconds)
+        // Meaningful content: more than 10 characters of rendered text
+        waits.waitForVisibleText(jobCards, 10, java.time.Duration.ofSeconds(60));
+    }
+
+    /**
+     * Load metrics of this page against its budgets (-Dpageperf.budget.jobsListing.*); no-op unless -Dpageperf.mode is set
+     */
+    public Map<String, Object> checkPerformance() {
+        return PagePerformance.check(driver, "jobsListing");
     }
 
     public List<JobCard> getJobCards(Waits waits) {
-        List<WebElement> cards = waits.until(ExpectedConditions.presenceOfAllElementsLocatedBy(jobCards));
-        List<WebElement> visibleCards = cards.stream().filter(WebElement::isDisplayed).collect(Collectors.toList());
         List<JobCard> result = new ArrayList<>();
-        for (WebElement card : visibleCards) {
-            result.add(new JobCard(card));
+        for (Map<String, Object> card : extractVisibleCards(waits)) {
+            result.add(new JobCard((WebElement) card.get("element"), JobCardData.from(card)));
+        }
+        return result;
+    }
+
+    /**
+     * Visible job cards, pulled lazily in batches of -Dlisting.batch-size per script call. More cards are loaded
+     * on demand (scroll to the end, "load more") once the rendered ones are consumed, so short-circuiting
+     * operations such as filter(...).findFirst() stop fetching as soon as they have their answer.
+     * Consume the stream on the test thread.
+     */
+    public Stream<JobCard> streamJobCards(Waits waits) {
+        return streamJobCards(waits, BATCH_SIZE);
+    }
+
+    public Stream<JobCard> streamJobCards(Waits waits, int batchSize) {
+        return StreamSupport.stream(new CardBatches(waits, batchSize), false);
+    }
+
+    /**
+     * Data of all visible job cards, read in a single script execution
+     */
+    public List<JobCardData> extractJobCards(Waits waits) {
+        List<JobCardData> result = new ArrayList<>();
+        for (Map<String, Object> card : extractVisibleCards(waits)) {
+            result.add(JobCardData.from(card));
         }
         return result;
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> extractVisibleCards(Waits waits) {
+        waits.waitForElementCountMoreThan(jobCards, 0);
+        Object cards = ((JavascriptExecutor) driver).executeScript(EXTRACT_ALL_CARDS_SCRIPT,
+            JsLocators.using(jobCards), JsLocators.value(jobCards));
+        return cards == null ? List.of() : (List<Map<String, Object>>) cards;
+    }
+
+    private final class CardBatches extends Spliterators.AbstractSpliterator<JobCard> {
+        private final Waits waits;
+        private final int batchSize;
+        private final Deque<JobCard> buffer = new ArrayDeque<>();
+        private int offset;
+        private boolean exhausted;
+
+        private CardBatches(Waits waits, int batchSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.waits = waits;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JobCard> action) {
+            if (buffer.isEmpty() && !exhausted) {
+                fetch();
+            }
+            JobCard card = buffer.poll();
+            if (card == null) {
+                return false;
+            }
+            action.accept(card);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void fetch() {
+            if (offset == 0) {
+                waits.waitForElementCountMoreThan(jobCards, 0);
+                DomObserver.ensureScriptTimeout(driver, LOAD_MORE_TIMEOUT.plusSeconds(5));
+            }
+            // Past the point where loading more already brought nothing, do not wait for it again
+            long loadMoreMs = loadedTotal >= 0 && offset >= loadedTotal ? 0 : LOAD_MORE_TIMEOUT.toMillis();
+            Map<String, Object> batch = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+                EXTRACT_BATCH_SCRIPT, JsLocators.using(jobCards), JsLocators.value(jobCards),
+                offset, batchSize, loadMoreMs, JsLocators.using(jobListContainer), JsLocators.value(jobListContainer));
+            List<Map<String, Object>> cards = (List<Map<String, Object>>) batch.get("cards");
+            if (cards == null || cards.isEmpty()) {
+                loadedTotal = ((Number) batch.get("total")).intValue();
+                exhausted = true;
+                return;
+            }
+            for (Map<String, Object> card : cards) {
+                buffer.add(new JobCard((WebElement) card.get("element"), JobCardData.from(card)));
+            }
+            offset += cards.size();
+        }
+    }
+
+    /**
+     * Immutable snapshot of a job card
+     */
+    public record JobCardData(String title, String department, String location, String viewRoleHref) {
+
+        static JobCardData from(Map<String, Object> card) {
+            return new JobCardData(
+                String.valueOf(card.getOrDefault("title", "")),
+                String.valueOf(card.getOrDefault("department", "")),
+                String.valueOf(card.getOrDefault("location", "")),
+                (String) card.get("href"));
+        }
+    }
+
+    /**
+     * View on a job card element. Text data comes from the bulk snapshot taken by getJobCards,
+     * or is read lazily in one script call when the card was created from a bare element.
+     */
     public static class JobCard {
         private final WebElement container;
+        private JobCardData data;
 
-        private final By titleLocator = By.cssSelector("*[class*='title'], h2, h3, h4");
-        private final By departmentLocator = By.cssSelector("*[class*='department'], *[class*='dept']");
-        private final By locationLocator = By.cssSelector("*[class*='location'], *[class*='loc']");
-        private final By viewRoleBtn = By.xpath(".//a[contains(@class,'btn') and (normalize-space()='View Role' or contains(.,'View Role'))] | .//a[normalize-space()='View Role' or contains(.,'View Role')] | .//button[normalize-space()='View Role' or contains(.,'View Role')]");
+        private static final By VIEW_ROLE_BUTTON = LocatorRegistry.locator("JobCard.viewRole",
+            By.xpath(".//a[contains(@class,'btn') and (normalize-space()='View Role' or contains(.,'View Role'))] | .//a[normalize-space()='View Role' or contains(.,'View Role')] | .//button[normalize-space()='View Role' or contains(.,'View Role')]"),
+            By.xpath(".//a[contains(@class,'btn') and (normalize-space()='View Role' or contains(.,'View Role'))]"),
+            By.xpath(".//a[normalize-space()='View Role' or contains(.,'View Role')]"),
+            By.xpath(".//button[normalize-space()='View Role' or contains(.,'View Role')]"));
 
         public JobCard(WebElement container) {
+            this(container, null);
+        }
+
+        public JobCard(WebElement container, JobCardData data) {
             this.container = container;
+            this.data = data;
         }
 
-        public String getTitle() {
-            try {
-                WebElement titleElement = container.findElement(titleLocator);
-                String text = titleElement.getText().trim();
-                if (!text.isEmpty()) {
-                    return text;
-                }
-            } catch (NoSuchElementException e) {
-                // Continue to fallback
-            }
-            // Fallback: try to find first heading element
-            try {
-                WebElement heading = container.findElement(By.cssSelector("h1, h2, h3, h4, h5, h6"));
-                String text = heading.getText().trim();
-                if (!text.isEmpty()) {
-                    return text;
-                }
-            } catch (NoSuchElementException ex) {
-                // Continue to text extraction
+        @SuppressWarnings("unchecked")
+        public JobCardData getData() {
+            if (data == null) {
+                WebDriver driver = ((WrapsDriver) container).getWrappedDriver();
+                data = JobCardData.from((Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeScript(EXTRACT_CARD_SCRIPT, container));
             }
-            // Final fallback: extract title from container text (usually first line)
-            String fullText = container.getText().trim();
-            if (!fullText.isEmpty()) {
-                // Get first non-empty line as title
-                String[] lines = fullText.split("\\r?\\n");
-                for (String line : lines) {
-                    line = line.trim();
-                    if (!line.isEmpty() && !line.equalsIgnoreCase("View Role")) {
-                        return line;
-                    }
-                }
-            }
-            return "";
+            return data;
+        }
+
+        public String getTitle() {
+            return getData().title();
         }
 
         public String getDepartment() {
-            try {
-                WebElement deptElement = container.findElement(departmentLocator);
-                return deptElement.getText().trim();
-            } catch (NoSuchElementException e) {
-                // Fallback: look for text containing "Quality Assurance" or "QA" or "Department"
-                String containerText = container.getText();
-                // Try to extract department from container text if possible
-                return containerText;
-            }
+            return getData().department();
         }
 
         public String getLocation() {
-            try {
-                WebElement locElement = container.findElement(locationLocator);
-                return locElement.getText().trim();
-            } catch (NoSuchElementException e) {
-                // Fallback: look for text containing location keywords
-                String containerText = container.getText();
-                // Try to extract location from container text if possible
-                return containerText;
-            }
+            return getData().location();
+        }
+
+        /**
+         * Target of the View Role link, or null when the card has no link (e.g. a button)
+         */
+        public String getViewRoleHref() {
+            return getData().viewRoleHref();
         }
 
         public WebElement getViewRoleElement() {
-            return container.findElement(viewRoleBtn);
+            return container.findElement(VIEW_ROLE_BUTTON);
         }
 
         public String getFullText() {
             return container.getText();
         }
     }
-}
\ No newline at end of file
+}
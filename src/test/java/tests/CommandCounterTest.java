@@ -0,0 +1,63 @@
+package tests;
+
+import core.CommandCounter;
+import core.PerfRecorder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Pins what the command counter treats as one browser command, on a stand-in driver (no browser needed):
+ * accessors such as manage(), switchTo(), navigate() and getDevTools() are not commands, the calls on the
+ * helpers they return are.
+ */
+public class CommandCounterTest {
+
+    @Test
+    public void testCountsCommandsButNotLocalAccessors() {
+        WebDriver driver = new EventFiringDecorator<WebDriver>(new CommandCounter())
+            .decorate((WebDriver) stub(WebDriver.class, HasDevTools.class));
+
+        PerfRecorder recorder = PerfRecorder.start("CommandCounterTest");
+        try {
+            driver.getCurrentUrl();
+            driver.findElements(By.id("jobs-list"));
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            driver.manage().window().getSize();
+            driver.navigate().refresh();
+            driver.switchTo().defaultContent();
+            ((HasDevTools) driver).getDevTools();
+        } finally {
+            PerfRecorder.stop();
+        }
+
+        // getCurrentUrl, findElements, implicitlyWait, getSize, refresh, defaultContent
+        Assert.assertEquals(recorder.getCommandCount(), 6);
+    }
+
+    // Returns stand-ins for WebDriver's helper interfaces and empty values otherwise
+    private static Object stub(Class<?>... interfaces) {
+        return Proxy.newProxyInstance(CommandCounterTest.class.getClassLoader(), interfaces, (proxy, method, args) -> {
+            Class<?> type = method.getReturnType();
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (type == List.class) {
+                return List.of();
+            } else if (type == String.class) {
+                return "";
+            } else if (type.isInterface()) {
+                return stub(type);
+            }
+            return null;
+        });
+    }
+}
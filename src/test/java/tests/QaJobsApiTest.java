@@ -0,0 +1,125 @@
+package tests;
+
+import api.LeverPostingsClient;
+import api.Posting;
+import core.BaseTest;
+import core.ClassifiedRetryAnalyzer;
+import core.Config;
+import core.Steps;
+import core.Waits;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import pages.CareersQaPage;
+import pages.JobsListingPage;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Job data checks against the Lever postings API instead of the UI: every location x department pair is
+ * validated in memory from a single HTTP request. The browser is used once, to check that the listing
+ * renders postings from the API and that View Role leads to Lever.
+ */
+public class QaJobsApiTest extends BaseTest {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(15);
+
+    private static List<Posting> postings;
+
+    private static synchronized List<Posting> postings() {
+        if (postings == null) {
+            postings = LeverPostingsClient.fromConfig().fetchAll();
+        }
+        return postings;
+    }
+
+    @Test(dataProvider = "locationDepartmentMatrix", dataProviderClass = QaJobsE2ETest.class,
+        retryAnalyzer = ClassifiedRetryAnalyzer.class)
+    public void testPostingsMatchFilters(String location, String department) {
+        List<Posting> all = postings();
+        List<Posting> matching = all.stream()
+            .filter(posting -> posting.matches(location, department))
+            .collect(Collectors.toList());
+        Assert.assertFalse(matching.isEmpty(), "No postings for " + location + " / " + department);
+
+        // Postings of the bundled postings.json, counted by hand; the live data has no fixed count
+        if (Config.boolValue("fixture.enabled", false)) {
+            Assert.assertEquals(matching.size(), QaJobsE2ETest.fixturePostingCount(location, department),
+                "Fixture postings matching " + location + " / " + department);
+        }
+
+        List<String> problems = new ArrayList<>();
+        for (Posting posting : matching) {
+            if (posting.id().isBlank() || posting.title().isBlank()
+                || posting.department().isBlank() || posting.location().isBlank()) {
+                problems.add(posting.id() + ": missing id, title, department or location");
+            }
+            if (!isLeverPostingUrl(posting)) {
+                problems.add(posting.id() + ": hosted URL '" + posting.hostedUrl() + "'");
+            }
+        }
+        Assert.assertTrue(problems.isEmpty(), "Invalid postings for " + location + " / " + department + ": " + problems);
+    }
+
+    @Test(retryAnalyzer = ClassifiedRetryAnalyzer.class)
+    public void testListingClickThrough() {
+        WebDriver driver = getDriver();
+        Waits waits = new Waits(driver, DEFAULT_TIMEOUT);
+        Set<String> hostedUrls = postings().stream().map(Posting::hostedUrl).collect(Collectors.toSet());
+
+        Steps.step("1. Open QA careers page", () -> {
+            CareersQaPage careersQaPage = new CareersQaPage(driver);
+            careersQaPage.open();
+            careersQaPage.clickSeeAllJobs(waits);
+        });
+
+        JobsListingPage jobsListingPage = new JobsListingPage(driver);
+        List<JobsListingPage.JobCard> jobCards = Steps.step("2. Wait for job list", () -> {
+            jobsListingPage.acceptCookiesIfPresent(waits);
+            jobsListingPage.waitForListRefresh(waits);
+            return jobsListingPage.getJobCards(waits);
+        });
+        Assert.assertFalse(jobCards.isEmpty(), "Job list should not be empty");
+        for (JobsListingPage.JobCard card : jobCards) {
+            if (card.getViewRoleHref() != null) {
+                Assert.assertTrue(hostedUrls.contains(card.getViewRoleHref()),
+                    "Card '" + card.getTitle() + "' links to a posting the API does not return: " + card.getViewRoleHref());
+            }
+        }
+
+        Steps.step("3. Click View Role", () -> {
+            jobCards.get(0).getViewRoleElement().click();
+            waits.until(webDriver -> {
+                for (String handle : webDriver.getWindowHandles()) {
+                    webDriver.switchTo().window(handle);
+                    if (webDriver.getCurrentUrl().contains("lever")) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        });
+    }
+
+    // Absolute http(s) link to this posting's page on Lever (jobs.lever.co, or /lever/ on the fixture server)
+    private static boolean isLeverPostingUrl(Posting posting) {
+        if (posting.hostedUrl() == null) {
+            return false;
+        }
+        try {
+            URI uri = new URI(posting.hostedUrl());
+            return ("https".equals(uri.getScheme()) || "http".equals(uri.getScheme()))
+                && uri.getHost() != null
+                && (uri.getHost().endsWith("lever.co") || uri.getPath().startsWith("/lever/"))
+                && uri.getPath().endsWith("/" + posting.id());
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+}
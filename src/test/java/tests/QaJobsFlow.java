@@ -0,0 +1,196 @@
+package tests;
+
+import core.Config;
+import core.NavigationCapture;
+import core.Steps;
+import core.Waits;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import pages.CareersQaPage;
+import pages.HomePage;
+import pages.JobsListingPage;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * The QA jobs scenario on a given browser, shared by the TestNG test and the orchestrated run
+ */
+final class QaJobsFlow {
+
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(15);
+    // -Dlever.verify: intercept (default) captures the View Role navigation without loading Lever, href checks the
+    // card's link target without clicking, render loads and settles the Lever page as a user would see it
+    private static final String LEVER_VERIFY = Config.value("lever.verify", "intercept").toLowerCase(Locale.ROOT);
+    private static final Pattern LEVER_URL = Pattern.compile("lever");
+    private static final Duration LEVER_CAPTURE_TIMEOUT = Config.millis("lever.capture-ms", 3000);
+
+    private QaJobsFlow() {
+    }
+
+    static void run(WebDriver driver, String location, String department) {
+        Waits waits = new Waits(driver, DEFAULT_TIMEOUT);
+        String originalWindowHandle = driver.getWindowHandle();
+        JobsListingPage jobsListingPage = searchJobs(driver, waits, location, department);
+
+        // Step 5: Wait for list refresh and verify job list is displayed (non-empty)
+        Optional<JobsListingPage.JobCard> firstCard = awaitFirstCard(driver, waits, jobsListingPage);
+        Assert.assertTrue(firstCard.isPresent(), "Job list should not be empty after applying filters: " + location + " / " + department);
+
+        // Step 6: Basic validation - job list is not empty; on the fixture site it has exactly one card per posting
+        if (Config.boolValue("fixture.enabled", false)) {
+            int cards = Steps.step("6. Count job cards", () -> jobsListingPage.extractJobCards(waits).size());
+            Assert.assertEquals(cards, QaJobsE2ETest.fixturePostingCount(location, department),
+                "Job cards rendered by the fixture listing for " + location + " / " + department);
+        }
+
+        // Steps 7-8 without loading Lever: check the link target from the card snapshot (href mode), or click
+        // View Role and capture the navigation before it is sent (intercept mode, the default)
+        if (LEVER_VERIFY.equals("href")) {
+            // Read from the bulk card snapshot, no extra round trip
+            String viewRoleHref = firstCard.get().getViewRoleHref();
+            if (viewRoleHref != null) {
+                Steps.step("7. Verify View Role link", () -> assertLeverUrl(viewRoleHref));
+                return;
+            }
+            // A View Role button without a link target: capture its click instead
+        }
+        if (!LEVER_VERIFY.equals("render")) {
+            // Every navigation the click starts is captured, so the check below sees where it really leads
+            String target = Steps.retryable("7. Click View Role (intercepted)", driver, () -> {
+                try (NavigationCapture capture = NavigationCapture.start(driver)) {
+                    clickViewRole(driver, waits, jobsListingPage, firstCard.get());
+                    return capture.await(waits, LEVER_CAPTURE_TIMEOUT).orElseThrow(() -> new TimeoutException(
+                        "View Role click started no navigation within " + LEVER_CAPTURE_TIMEOUT.toMillis()
+                            + " ms; -Dlever.verify=render follows it in the browser instead"));
+                }
+            });
+            Steps.step("8. Verify Lever URL", () -> assertLeverUrl(target));
+            return;
+        }
+
+        // Step 7: Click "View Role" on the first job card
+        Steps.retryable("7. Click View Role", driver,
+            () -> clickViewRole(driver, waits, jobsListingPage, firstCard.get()));
+
+        // Step 8: Verify redirect to Lever application form (URL contains "lever")
+        Steps.retryable("8. Verify Lever redirect", driver, () -> {
+            // Handle new tab/window if opened - stay on Lever page, don't go back
+            int windowCount = driver.getWindowHandles().size();
+            if (windowCount > 1) {
+                // New tab/window was opened - switch to it and stay there
+                waits.until(webDriver -> {
+                    for (String windowHandle : webDriver.getWindowHandles()) {
+                        if (!windowHandle.equals(originalWindowHandle)) {
+                            webDriver.switchTo().window(windowHandle);
+                            return true;
+                        }
+                    }
+                    return false;
+                });
+                // Wait for page to load and verify URL contains "lever"
+                waits.urlContains("lever");
+                Assert.assertTrue(driver.getCurrentUrl().contains("lever"),
+                    "URL should contain 'lever' after clicking View Role. Current URL: " + driver.getCurrentUrl());
+            } else {
+                // Same window navigation - verify URL
+                waits.urlContains("lever");
+                Assert.assertTrue(driver.getCurrentUrl().contains("lever"),
+                    "URL should contain 'lever' after clicking View Role. Current URL: " + driver.getCurrentUrl());
+            }
+
+            // Wait for page to be fully loaded
+            waits.getWait().until((org.openqa.selenium.support.ui.ExpectedCondition<Boolean>) webDriver -> {
+                org.openqa.selenium.JavascriptExecutor js = (org.openqa.selenium.JavascriptExecutor) webDriver;
+                return "complete".equals(js.executeScript("return document.readyState"));
+            });
+        });
+
+        // Scroll down to view more content (smooth scroll), then wait until the page has settled
+        ((JavascriptExecutor) driver).executeScript(
+            "window.scrollTo({top: document.body.scrollHeight, behavior: 'smooth'});"
+        );
+        Steps.step("9. Wait for Lever page to settle", () -> { waits.waitForPageStable(); });
+    }
+
+    private static void clickViewRole(WebDriver driver, Waits waits, JobsListingPage jobsListingPage,
+                                      JobsListingPage.JobCard card) {
+        WebElement viewRoleElement;
+        try {
+            viewRoleElement = card.getViewRoleElement();
+        } catch (StaleElementReferenceException e) {
+            // List re-rendered since step 5 (e.g. on a retry); take the first card again
+            viewRoleElement = jobsListingPage.streamJobCards(waits).findFirst().orElseThrow().getViewRoleElement();
+        }
+        // Wait until clickable, hit-test and click in one script; JS click if it stays covered
+        try {
+            waits.click(viewRoleElement);
+        } catch (org.openqa.selenium.ElementClickInterceptedException e) {
+            // Fallback to JavaScript click (without scrolling)
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", viewRoleElement);
+        }
+    }
+
+    private static void assertLeverUrl(String url) {
+        Assert.assertTrue(LEVER_URL.matcher(url).find(), "View Role should lead to the Lever application page but leads to: " + url);
+    }
+
+    /**
+     * Steps 1-4: home page, QA careers page, "See all QA jobs" and the location/department filters
+     */
+    static JobsListingPage searchJobs(WebDriver driver, Waits waits, String location, String department) {
+        // Step 1: Open homepage and verify key elements are visible
+        Steps.step("1. Open homepage", () -> {
+            HomePage homePage = new HomePage(driver);
+            homePage.open();
+            homePage.acceptCookiesIfPresent(waits);
+            Assert.assertTrue(homePage.isHeaderVisible(waits), "Homepage header should be visible");
+            Assert.assertTrue(homePage.isHeroVisible(waits), "Homepage hero section should be visible");
+            Assert.assertTrue(homePage.isFooterVisible(waits), "Homepage footer should be visible");
+            homePage.checkPerformance();
+        });
+
+        // Step 2: Go to QA careers page
+        CareersQaPage careersQaPage = new CareersQaPage(driver);
+        Steps.step("2. Open QA careers page", () -> {
+            careersQaPage.open();
+            Assert.assertTrue(careersQaPage.isSeeAllJobsVisible(waits),
+                "See all QA jobs button should be visible");
+            careersQaPage.checkPerformance();
+        });
+
+        // Step 3: Click "See all QA jobs"
+        Steps.retryable("3. Click See all QA jobs", driver, () -> careersQaPage.clickSeeAllJobs(waits));
+
+        // Step 4: Apply filters - Wait for Department filter first, then Location
+        JobsListingPage jobsListingPage = new JobsListingPage(driver);
+        Steps.retryable("4. Apply filters", driver, () -> {
+            // Accept cookies if banner is present on this page
+            jobsListingPage.acceptCookiesIfPresent(waits);
+            // Wait for Department filter to be visible first (ensures page is ready)
+            jobsListingPage.waitForDepartmentFilterReady(waits);
+            // Then apply location filter
+            jobsListingPage.applyLocationFilter(waits, location);
+            // Finally apply department filter
+            jobsListingPage.applyDepartmentFilter(waits, department);
+        });
+        return jobsListingPage;
+    }
+
+    /**
+     * Step 5: the filtered job list has rendered; only the first batch of cards is read
+     */
+    static Optional<JobsListingPage.JobCard> awaitFirstCard(WebDriver driver, Waits waits, JobsListingPage jobsListingPage) {
+        return Steps.retryable("5. Wait for job list", driver, () -> {
+            jobsListingPage.waitForListRefresh(waits);
+            jobsListingPage.checkPerformance();
+            return jobsListingPage.streamJobCards(waits).findFirst();
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package tests;
+
+import core.BaseTest;
+import core.Config;
+import core.LoadRunner;
+import core.Waits;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import pages.JobsListingPage;
+
+/**
+ * The home -> QA careers -> job listing search (steps 1-5 of the QA jobs flow) as a load scenario: virtual
+ * users rotate through the location x department matrix, so the filtered job list is requested with varying
+ * filters. Enabled with -Dload.enabled=true, e.g. against the fixture server:
+ * mvn test -Dtest=QaJobsLoadTest -Dload.enabled=true -Dload.users=8 -Ddriver.pool.size=8 -Dbrowser.profile=ci -Dfixture.enabled=true
+ */
+public class QaJobsLoadTest extends BaseTest {
+
+    @Test
+    public void testJobSearchUnderLoad() {
+        if (!Config.boolValue("load.enabled", false)) {
+            throw new SkipException("Load run is off; enable with -Dload.enabled=true");
+        }
+        Object[][] matrix = QaJobsE2ETest.locationDepartmentMatrix();
+
+        LoadRunner.Result result = LoadRunner.fromConfig().run("QaJobsSearch", (driver, iteration) -> {
+            String location = (String) matrix[iteration % matrix.length][0];
+            String department = (String) matrix[iteration % matrix.length][1];
+            Waits waits = new Waits(driver, QaJobsFlow.DEFAULT_TIMEOUT);
+            JobsListingPage jobsListingPage = QaJobsFlow.searchJobs(driver, waits, location, department);
+            Assert.assertTrue(QaJobsFlow.awaitFirstCard(driver, waits, jobsListingPage).isPresent(),
+                "Job list should not be empty after applying filters: " + location + " / " + department);
+        });
+
+        double maxErrorRate = Double.parseDouble(Config.value("load.max-error-rate", "0.01"));
+        Assert.assertTrue(result.iterations().count() > 0, "No iteration completed: " + result.failuresByCause());
+        Assert.assertTrue(result.errorRate() <= maxErrorRate, String.format("Error rate %.2f%% above %.2f%%: %s",
+            result.errorRate() * 100, maxErrorRate * 100, result.failuresByCause()));
+        long p95Budget = Config.intValue("load.p95-budget-ms", 0);
+        if (p95Budget > 0) {
+            long p95 = result.iterations().percentile(95);
+            Assert.assertTrue(p95 <= p95Budget, "Iteration p95 " + p95 + " ms above budget " + p95Budget + " ms");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package tests;
+
+import core.BaseTest;
+import core.Config;
+import core.ScenarioOrchestrator;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * The location x department matrix of QaJobsE2ETest as one orchestrated run: every scenario on its own
+ * (virtual) thread, bounded by -Dorchestrator.max-browsers. Enabled with -Dorchestrator.enabled=true, e.g.
+ * mvn test -Dtest=QaJobsOrchestratedTest -Dorchestrator.enabled=true -Ddriver.pool.size=16
+ */
+public class QaJobsOrchestratedTest extends BaseTest {
+
+    @Test
+    public void testMatrixOrchestrated() {
+        if (!Config.boolValue("orchestrator.enabled", false)) {
+            throw new SkipException("Orchestrated run is off; enable with -Dorchestrator.enabled=true");
+        }
+        Map<String, Consumer<WebDriver>> scenarios = new LinkedHashMap<>();
+        for (Object[] pair : QaJobsE2ETest.locationDepartmentMatrix()) {
+            String location = (String) pair[0];
+            String department = (String) pair[1];
+            scenarios.put("QaJobsOrchestrated-" + location + "-" + department,
+                driver -> QaJobsFlow.run(driver, location, department));
+        }
+
+        List<ScenarioOrchestrator.Outcome> outcomes = ScenarioOrchestrator.fromConfig().runAll(scenarios);
+
+        List<String> failures = outcomes.stream()
+            .filter(outcome -> !outcome.passed())
+            .map(outcome -> outcome.name() + ": " + outcome.failure())
+            .collect(Collectors.toList());
+        Assert.assertTrue(failures.isEmpty(), failures.size() + " of " + outcomes.size()
+            + " scenarios failed (virtual threads: " + ScenarioOrchestrator.virtualThreadsAvailable() + "): " + failures);
+    }
+}
@@ -0,0 +1,57 @@
+package tests;
+
+import core.BaseTest;
+import core.Config;
+import core.FixtureServer;
+import core.Steps;
+import core.Waits;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import pages.CareersQaPage;
+import pages.JobsListingPage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A retryable step that fails transiently after leaving the page and opening a tab is run again from its
+ * checkpoint: the job listing reached by "See all QA jobs", in the original window only. Always runs against
+ * the bundled fixture site, so only the retry logic decides the outcome.
+ */
+public class StepRetryTest extends BaseTest {
+
+    @Test
+    public void testRetryRestoresCheckpoint() {
+        if (Config.intValue("steps.retries", 1) < 1) {
+            throw new SkipException("Step retries are off (-Dsteps.retries=0)");
+        }
+        String fixtureUrl = FixtureServer.startShared().baseUrl();
+        WebDriver driver = getDriver();
+        Waits waits = new Waits(driver, QaJobsFlow.DEFAULT_TIMEOUT);
+        CareersQaPage careersQaPage = new CareersQaPage(driver);
+        careersQaPage.open(fixtureUrl);
+        Steps.retryable("Click See all QA jobs", driver, () -> careersQaPage.clickSeeAllJobs(waits));
+
+        JobsListingPage jobsListingPage = new JobsListingPage(driver);
+        String listingWindow = driver.getWindowHandle();
+        AtomicInteger attempts = new AtomicInteger();
+        Steps.retryable("Wait for filters", driver, () -> {
+            if (attempts.getAndIncrement() == 0) {
+                driver.switchTo().newWindow(WindowType.TAB);
+                driver.switchTo().window(listingWindow);
+                driver.get(fixtureUrl);
+                throw new TimeoutException("Simulated transient failure after leaving the listing");
+            }
+            jobsListingPage.waitForDepartmentFilterReady(waits);
+        });
+
+        Assert.assertEquals(attempts.get(), 2, "The step should have run once more after the failure");
+        Assert.assertEquals(driver.getWindowHandles().size(), 1, "The tab opened by the failed attempt should be closed");
+        Assert.assertEquals(driver.getWindowHandle(), listingWindow);
+        Assert.assertTrue(driver.getCurrentUrl().contains(JobsListingPage.LISTING_PATH),
+            "The retry should start from the job listing, not " + driver.getCurrentUrl());
+    }
+}
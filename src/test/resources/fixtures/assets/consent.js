@@ -0,0 +1,21 @@
+// CookieLawInfo (wt-cli) style consent bar: shown until viewed_cookie_policy is set
+(function () {
+  function hasConsent() {
+    return document.cookie.split(';').some(function (c) { return c.trim().indexOf('viewed_cookie_policy=yes') === 0; });
+  }
+  function init() {
+    var bar = document.getElementById('cookie-law-info-bar');
+    if (!bar) { return; }
+    if (hasConsent()) { bar.parentNode.removeChild(bar); return; }
+    // Banner is injected late, like the live site
+    setTimeout(function () { bar.classList.remove('cli-hidden'); }, 400);
+    document.getElementById('wt-cli-accept-all-btn').addEventListener('click', function (event) {
+      event.preventDefault();
+      document.cookie = 'viewed_cookie_policy=yes; path=/; max-age=31536000';
+      document.cookie = 'cookielawinfo-checkbox-necessary=yes; path=/; max-age=31536000';
+      document.cookie = 'cookielawinfo-checkbox-analytics=yes; path=/; max-age=31536000';
+      bar.classList.add('cli-hidden');
+    });
+  }
+  if (document.readyState === 'loading') { document.addEventListener('DOMContentLoaded', init); } else { init(); }
+})();
@@ -0,0 +1,78 @@
+// Open positions listing: loads Lever postings, fills the filters and renders job cards
+(function () {
+  var postings = [];
+  var locationSelect = document.getElementById('filter-by-location');
+  var departmentSelect = document.getElementById('filter-by-department');
+  var list = document.getElementById('jobs-list');
+  var loader = document.getElementById('jobs-loading');
+  var count = document.getElementById('jobs-count');
+
+  function slug(text) { return text.toLowerCase().replace(/[^a-z0-9]/g, ''); }
+
+  function fillOptions(select, values) {
+    values.forEach(function (value) {
+      var option = document.createElement('option');
+      option.value = value;
+      option.textContent = value;
+      select.appendChild(option);
+    });
+  }
+
+  function unique(field) {
+    var seen = {};
+    postings.forEach(function (p) { seen[p.categories[field]] = true; });
+    return Object.keys(seen).sort();
+  }
+
+  function render() {
+    var location = locationSelect.value;
+    var department = departmentSelect.value;
+    list.innerHTML = '';
+    var shown = postings.filter(function (p) {
+      return (location === 'All' || p.categories.location === location)
+        && (department === 'All' || p.categories.department === department);
+    });
+    // Result summary before the list; its 'position' class must not make it a job card
+    count.textContent = shown.length + ' open positions';
+    shown.forEach(function (p) {
+      var card = document.createElement('div');
+      card.className = 'position-list-item ' + slug(p.categories.department) + ' ' + slug(p.categories.location);
+      card.setAttribute('data-location', slug(p.categories.location));
+      card.setAttribute('data-team', slug(p.categories.department));
+      card.innerHTML =
+        '<div class="position-list-item-wrapper">' +
+        '<p class="position-title">' + p.text + '</p>' +
+        '<span class="position-department">' + p.categories.department + '</span>' +
+        '<div class="position-location">' + p.categories.location + '</div>' +
+        '<a href="' + p.hostedUrl + '" class="btn btn-navy rounded" target="_blank">View Role</a>' +
+        '</div>';
+      list.appendChild(card);
+    });
+  }
+
+  // Filtering goes through a short async refresh, like the live listing
+  function refresh() {
+    loader.classList.add('is-active');
+    list.innerHTML = '';
+    count.textContent = '';
+    setTimeout(function () {
+      render();
+      loader.classList.remove('is-active');
+    }, 300);
+  }
+
+  fetch('/v0/postings/insiderone?mode=json')
+    .then(function (response) { return response.json(); })
+    .then(function (data) {
+      postings = data;
+      fillOptions(locationSelect, unique('location'));
+      fillOptions(departmentSelect, unique('department'));
+      var wanted = new URLSearchParams(window.location.search).get('department');
+      if (wanted) {
+        unique('department').forEach(function (d) { if (slug(d) === wanted) { departmentSelect.value = d; } });
+      }
+      locationSelect.addEventListener('change', refresh);
+      departmentSelect.addEventListener('change', refresh);
+      refresh();
+    });
+})();